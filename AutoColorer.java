@@ -0,0 +1,82 @@
+/**
+ * Purpose	Coloring strategy which picks the best colorer for each
+ * 		layer
+ * Status	Finished
+ * Last Update	10/17/26
+ * Submitted	N/A
+ * Comment	All code is my own original work
+ *
+ * Bipartite layers are colored with Δ colors by BipartiteColorer.
+ * Otherwise, when no relationship joins two individuals whose degrees
+ * add up to more than Δ+2, greedy coloring is sure to stay within Δ+1
+ * colors. Layers where at most half of the pairs know each other are
+ * also tried greedily, and colored again by Misra & Gries only if
+ * greedy used more than Δ+1 colors. Denser layers go straight to
+ * Misra & Gries. A layer never gets more days than Misra & Gries would
+ * give it.
+ *
+ * @author	Alaina Iris
+ * @version	2026.10.17
+ */
+
+public class AutoColorer implements EdgeColorer {
+	private EdgeColorer last;
+
+	/**
+	 * Color every edge of a graph with the strategy suited to it
+	 *
+	 * @param graph Relationships to color
+	 * @return Color of every edge, from 1
+	 */
+	public int[] color(Graph graph) {
+		if (BipartiteColorer.isBipartite(graph)) {
+			last = new BipartiteColorer();
+			return BipartiteColorer.colorBipartite(graph);
+		}
+		int max = 0;
+		int touched = 0;
+		for (int v = 0; v < graph.size(); v++) {
+			max = Math.max(max, graph.degree(v));
+			if (graph.degree(v) > 0) {
+				touched++;
+			}
+		}
+		int pair = 0;
+		for (int e = 0; e < graph.getEdgeCount(); e++) {
+			pair = Math.max(pair, graph.degree(graph.getFirst(e)) + graph.degree(graph.getSecond(e)));
+		}
+		// At most half of the pairs in the layer know each other
+		boolean sparse = 4L * graph.getEdgeCount() <= (long) touched * (touched - 1);
+		if (pair <= max + 2 || sparse) {
+			int[] colors = new GreedyColorer().color(graph);
+			int used = 0;
+			for (int color : colors) {
+				used = Math.max(used, color);
+			}
+			if (used <= max + 1) {
+				last = new GreedyColorer();
+				return colors;
+			}
+		}
+		last = new MisraGriesColorer();
+		return last.color(graph);
+	}
+
+	/**
+	 * Get the name of the strategy for reports
+	 *
+	 * @return Strategy name
+	 */
+	public String getName() {
+		return "Auto";
+	}
+
+	/**
+	 * Get the strategy picked for the last graph colored
+	 *
+	 * @return Last strategy used, null before any coloring
+	 */
+	public EdgeColorer getLast() {
+		return last;
+	}
+}
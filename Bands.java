@@ -0,0 +1,184 @@
+/**
+ * Purpose	Relationships of a graph split into weight bands, one band
+ * 		per layer
+ * Status	Finished
+ * Last Update	10/17/26
+ * Submitted	N/A
+ * Comment	All code is my own original work
+ *
+ * Band k holds the weights in (max >> (k + 1), max >> k], and the final
+ * band takes everything below. The band of a weight is found from the
+ * leading zeros of the weight and the maximum rather than a loop, and
+ * every relationship is placed in one pass: their bands are counted,
+ * then the ids are laid out band after band in one backing array by
+ * counting sort, so each band's ids are in increasing order.
+ *
+ * When a weight changes, move shifts the relationship to its new band
+ * by swapping it across the band boundaries in between, one swap per
+ * boundary, so nothing else is rebuilt. Swaps leave a band out of order,
+ * and it is sorted again the next time its ids are asked for.
+ *
+ * @author	Alaina Iris
+ * @version	2026.10.17
+ */
+
+import java.util.Arrays;
+
+public class Bands {
+	private int max;
+	private int layers;
+	// Band b holds edges[start[b] .. start[b + 1])
+	private int[] start;
+	private int[] edges;
+	// Band and position in edges of each relationship
+	private int[] band;
+	private int[] position;
+	private boolean[] unsorted;
+
+	/**
+	 * Split the relationships of a graph into bands
+	 *
+	 * @param graph Relationships to split
+	 * @param max Maximum weight, the top of the first band
+	 * @param layers Number of halvings before the final band
+	 */
+	public Bands(Graph graph, int max, int layers) {
+		if (layers < 0) {
+			throw new IllegalArgumentException("Need at least 0 layers, got " + layers);
+		}
+		this.max = max;
+		this.layers = layers;
+		int count = graph.getEdgeCount();
+		start = new int[layers + 2];
+		band = new int[count];
+		for (int e = 0; e < count; e++) {
+			band[e] = band(graph.getWeight(e), max, layers);
+			start[band[e] + 1]++;
+		}
+		for (int b = 0; b <= layers; b++) {
+			start[b + 1] += start[b];
+		}
+		edges = new int[count];
+		position = new int[count];
+		int[] next = Arrays.copyOf(start, layers + 1);
+		for (int e = 0; e < count; e++) {
+			position[e] = next[band[e]]++;
+			edges[position[e]] = e;
+		}
+		unsorted = new boolean[layers + 1];
+	}
+
+	/**
+	 * Find the band of a weight, the largest k up to the layer count
+	 * with w << k no more than the maximum
+	 *
+	 * @param w Weight, from 1 to the maximum
+	 * @param max Maximum weight
+	 * @param layers Number of halvings before the final band
+	 * @return Band of the weight
+	 */
+	public static int band(int w, int max, int layers) {
+		if (w <= 0 || w > max) {
+			throw new IllegalArgumentException("Weight " + w + " is not in 1 to " + max);
+		}
+		int k = Integer.numberOfLeadingZeros(w) - Integer.numberOfLeadingZeros(max);
+		if ((long) w << k > max) {
+			k--;
+		}
+		return Math.min(k, layers);
+	}
+
+	/**
+	 * Get the number of bands
+	 *
+	 * @return Layer count plus the final band
+	 */
+	public int getCount() {
+		return layers + 1;
+	}
+
+	/**
+	 * Get the number of relationships in a band
+	 *
+	 * @param b Band
+	 * @return Number of relationships
+	 */
+	public int getSize(int b) {
+		return start[b + 1] - start[b];
+	}
+
+	/**
+	 * Get the band of a relationship
+	 *
+	 * @param e Edge
+	 * @return Band of the edge
+	 */
+	public int getBand(int e) {
+		return band[e];
+	}
+
+	/**
+	 * Get the relationships of a band
+	 *
+	 * @param b Band
+	 * @return Edges of the band, in increasing order
+	 */
+	public int[] getEdges(int b) {
+		if (unsorted[b]) {
+			Arrays.sort(edges, start[b], start[b + 1]);
+			for (int i = start[b]; i < start[b + 1]; i++) {
+				position[edges[i]] = i;
+			}
+			unsorted[b] = false;
+		}
+		return Arrays.copyOfRange(edges, start[b], start[b + 1]);
+	}
+
+	/**
+	 * Move a relationship to the band of its new weight. The maximum
+	 * and layer count stay the same, so a weight which changes them
+	 * needs new bands instead.
+	 *
+	 * @param e Edge whose weight changed
+	 * @param weight New weight, from 1 to the maximum
+	 * @return True if the edge changed band
+	 */
+	public boolean move(int e, int weight) {
+		int from = band[e];
+		int to = band(weight, max, layers);
+		int pos = position[e];
+		// Swap the edge across each boundary between the bands, the
+		// boundary slot changing band with it
+		for (int b = from; b < to; b++) {
+			int last = start[b + 1] - 1;
+			swap(pos, last);
+			start[b + 1]--;
+			unsorted[b] = true;
+			pos = last;
+		}
+		for (int b = from; b > to; b--) {
+			int first = start[b];
+			swap(pos, first);
+			start[b]++;
+			unsorted[b] = true;
+			pos = first;
+		}
+		unsorted[to] |= from != to;
+		band[e] = to;
+		return from != to;
+	}
+
+	/**
+	 * Swap two slots of the backing array
+	 *
+	 * @param i First slot
+	 * @param j Second slot
+	 */
+	private void swap(int i, int j) {
+		int a = edges[i];
+		edges[i] = edges[j];
+		edges[j] = a;
+		position[edges[i]] = i;
+		position[edges[j]] = j;
+	}
+}
@@ -0,0 +1,284 @@
+/**
+ * Purpose	Batch mode which schedules many input files in one run
+ * Status	Finished
+ * Last Update	10/17/26
+ * Submitted	N/A
+ * Comment	All code is my own original work
+ *
+ * Every input is read and written on its own I/O thread, which is a
+ * virtual thread when the JVM has them and a pooled thread otherwise.
+ * Scheduling itself runs on a bounded pool of platform threads, so no
+ * more networks are colored at once than there are cores. A semaphore
+ * caps how many inputs are loaded at a time, so a directory of
+ * thousands of files is never all in memory.
+ *
+ * Each input gets its schedule written next to it as
+ * [input].schedule.[txt|csv|jsonl] and its statistics as
+ * [input].stats.txt. The text format holds only the schedule, without
+ * the matrix.
+ *
+ * @author	Alaina Iris
+ * @version	2026.10.17
+ */
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class BatchRunner {
+	private static final String[] EXTENSIONS = {"txt", "csv", "jsonl"};
+	private ExecutorService cpu;
+	private int format;
+	private ScheduleCache cache;
+	private Semaphore loaded;
+	private AtomicLong relationships = new AtomicLong();
+
+	/**
+	 * Create a batch runner
+	 *
+	 * @param cpu Platform pool to schedule on
+	 * @param format Schedule output format
+	 * @param cache Cache to reuse schedules from, null for none
+	 * @param inFlight Most inputs loaded at once
+	 */
+	public BatchRunner(ExecutorService cpu, int format, ScheduleCache cache, int inFlight) {
+		if (inFlight < 1) {
+			throw new IllegalArgumentException("Need at least 1 input in flight, got " + inFlight);
+		}
+		this.cpu = cpu;
+		this.format = format;
+		this.cache = cache;
+		loaded = new Semaphore(inFlight);
+	}
+
+	/**
+	 * Find the inputs of a batch. A directory gives every file in it
+	 * except outputs of an earlier batch, in name order. Any other file
+	 * is a manifest of one input per line, relative to the manifest,
+	 * with blank lines and lines starting with # skipped.
+	 *
+	 * @param source Directory or manifest
+	 * @return Input files
+	 * @throws IOException If the directory or manifest cannot be read
+	 */
+	public static ArrayList<Path> inputs(Path source) throws IOException {
+		ArrayList<Path> files = new ArrayList<Path>();
+		if (Files.isDirectory(source)) {
+			try (DirectoryStream<Path> entries = Files.newDirectoryStream(source)) {
+				for (Path entry : entries) {
+					String name = entry.getFileName().toString();
+					if (Files.isRegularFile(entry) && !name.startsWith(".") && !isOutput(name)) {
+						files.add(entry);
+					}
+				}
+			}
+			Collections.sort(files);
+			return files;
+		}
+		try (BufferedReader reader = Files.newBufferedReader(source, StandardCharsets.UTF_8)) {
+			String line;
+			while ((line = reader.readLine()) != null) {
+				line = line.trim();
+				if (!line.isEmpty() && !line.startsWith("#")) {
+					Path parent = source.toAbsolutePath().getParent();
+					files.add(parent.resolve(line));
+				}
+			}
+		}
+		return files;
+	}
+
+	/**
+	 * Schedule every input and print a summary of throughput and
+	 * latency
+	 *
+	 * @param files Input files
+	 * @param inputFormat --matrix, --edges or --snapshot, null to go by extension
+	 */
+	public void run(ArrayList<Path> files, String inputFormat) {
+		ExecutorService io = ioExecutor();
+		long[] latency = new long[files.size()];
+		boolean[] done = new boolean[files.size()];
+		ArrayList<Future<?>> futures = new ArrayList<Future<?>>();
+		long start = System.nanoTime();
+		try {
+			for (int i = 0; i < files.size(); i++) {
+				loaded.acquire();
+				int index = i;
+				futures.add(io.submit(() -> {
+					long begin = System.nanoTime();
+					try {
+						done[index] = process(files.get(index), inputFormat);
+					} finally {
+						latency[index] = System.nanoTime() - begin;
+						loaded.release();
+					}
+				}));
+			}
+			for (Future<?> future : futures) {
+				future.get();
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			System.out.println("Batch interrupted");
+			return;
+		} catch (ExecutionException e) {
+			throw new IllegalStateException("Unable to run batch", e.getCause());
+		} finally {
+			io.shutdown();
+		}
+		long elapsed = System.nanoTime() - start;
+		int ok = 0;
+		for (boolean b : done) {
+			if (b) {
+				ok++;
+			}
+		}
+		double seconds = elapsed / 1e9;
+		Arrays.sort(latency);
+		System.out.println(String.format(
+				"\nScheduled %d of %d networks (%d failed) in %.2f s" +
+				"\nThroughput:\t%.1f networks/s, %.0f relationships/s" +
+				"\nLatency:\tp50 %s, p90 %s, p99 %s, max %s",
+				ok, files.size(), files.size() - ok, seconds,
+				ok / seconds, relationships.get() / seconds,
+				millis(percentile(latency, 50)), millis(percentile(latency, 90)),
+				millis(percentile(latency, 99)), millis(latency.length == 0 ? 0 : latency[latency.length - 1])));
+	}
+
+	/**
+	 * Read, schedule and write one input
+	 *
+	 * @param file Input file
+	 * @param inputFormat --matrix, --edges or --snapshot, null to go by extension
+	 * @return True if the schedule was written
+	 */
+	private boolean process(Path file, String inputFormat) {
+		try {
+			Network n = Driver.readNetwork(inputFormat == null ? detect(file) : inputFormat, file);
+			if (n == null) {
+				return false;
+			}
+			String[] stats = new String[1];
+			Schedule s = cpu.submit(() -> {
+				Schedule made = cache == null ? n.optimizedSchedule() : cache.getSchedule(n, null);
+				stats[0] = Driver.statistics(n, n.getStrain(made));
+				return made;
+			}).get();
+			Path out = file.resolveSibling(file.getFileName() + ".schedule." + EXTENSIONS[format]);
+			try (FileChannel channel = FileChannel.open(out, StandardOpenOption.WRITE,
+					StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING)) {
+				ScheduleWriter writer = ScheduleWriter.open(channel, format);
+				writer.write(s);
+				writer.flush();
+			}
+			try (Writer writer = Files.newBufferedWriter(file.resolveSibling(file.getFileName() + ".stats.txt"),
+					StandardCharsets.UTF_8)) {
+				writer.write(stats[0].trim());
+				writer.write('\n');
+			}
+			relationships.addAndGet(n.getNumberOfRelationships());
+			return true;
+		} catch (IOException e) {
+			System.out.println("Unable to schedule " + file + ": " + e);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			System.out.println("Unable to schedule " + file + ": interrupted");
+		} catch (ExecutionException e) {
+			System.out.println("Unable to schedule " + file + ": " + e.getCause().getMessage());
+		} catch (RuntimeException e) {
+			System.out.println("Unable to schedule " + file + ": " + e.getMessage());
+		}
+		return false;
+	}
+
+	/**
+	 * Pick an input format by file extension: .snap for snapshots,
+	 * .edges for edge lists, and a matrix for anything else
+	 *
+	 * @param file Input file
+	 * @return --matrix, --edges or --snapshot
+	 */
+	private static String detect(Path file) {
+		String name = file.getFileName().toString();
+		if (name.endsWith(".snap")) {
+			return "--snapshot";
+		}
+		if (name.endsWith(".edges")) {
+			return "--edges";
+		}
+		return "--matrix";
+	}
+
+	/**
+	 * Check if a file is the output of a batch
+	 *
+	 * @param name File name
+	 * @return True for schedule and statistics outputs
+	 */
+	private static boolean isOutput(String name) {
+		if (name.endsWith(".stats.txt")) {
+			return true;
+		}
+		for (String extension : EXTENSIONS) {
+			if (name.endsWith(".schedule." + extension)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Make an executor with a new virtual thread per task when the JVM
+	 * has them, or a pool of reused threads when it does not
+	 *
+	 * @return I/O executor
+	 */
+	public static ExecutorService ioExecutor() {
+		try {
+			return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+		} catch (ReflectiveOperationException e) {
+			return Executors.newCachedThreadPool();
+		}
+	}
+
+	/**
+	 * Get a percentile of sorted values
+	 *
+	 * @param sorted Values in increasing order
+	 * @param percent Percentile, 0 to 100
+	 * @return Value at the percentile, 0 with no values
+	 */
+	public static long percentile(long[] sorted, int percent) {
+		if (sorted.length == 0) {
+			return 0;
+		}
+		int index = (int) Math.ceil(percent / 100.0 * sorted.length) - 1;
+		return sorted[Math.max(0, index)];
+	}
+
+	/**
+	 * Format nanoseconds as milliseconds
+	 *
+	 * @param nanos Nanoseconds
+	 * @return Milliseconds text
+	 */
+	private static String millis(long nanos) {
+		return String.format("%.1f ms", nanos / 1e6);
+	}
+}
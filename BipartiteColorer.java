@@ -0,0 +1,192 @@
+/**
+ * Purpose	Edge coloring of bipartite layers with Δ colors
+ * Status	Finished
+ * Last Update	10/17/26
+ * Submitted	N/A
+ * Comment	All code is my own original work
+ * Comment	Uses the alternating path proof of König's edge coloring
+ * 		theorem
+ *
+ * Each edge u - v takes a color a free on u. If a is also used on v,
+ * the path from v alternating between a and a color b free on v is
+ * swapped. In a bipartite graph that path can never reach u, so
+ * afterwards a is free on both ends. No fans are needed, and a layer
+ * gets one day fewer than Misra & Gries would give it.
+ *
+ * @author	Alaina Iris
+ * @version	2026.10.17
+ */
+
+import java.util.Arrays;
+
+public class BipartiteColorer implements EdgeColorer {
+	/**
+	 * Color every edge of a bipartite graph
+	 *
+	 * @param graph Relationships to color
+	 * @return Color of every edge, from 1 to Δ
+	 */
+	public int[] color(Graph graph) {
+		if (!isBipartite(graph)) {
+			throw new IllegalArgumentException("Graph is not bipartite");
+		}
+		return colorBipartite(graph);
+	}
+
+	/**
+	 * Color every edge of a graph already known to be bipartite,
+	 * without checking it again
+	 *
+	 * @param graph Relationships to color, bipartite
+	 * @return Color of every edge, from 1 to Δ
+	 */
+	public static int[] colorBipartite(Graph graph) {
+		int count = graph.getEdgeCount();
+		int size = graph.size();
+		int max = 0;
+		for (int v = 0; v < size; v++) {
+			max = Math.max(max, graph.degree(v));
+		}
+		int stride = max + 1;
+		int words = (stride + 63) >>> 6;
+		int[] at = new int[size * stride];
+		Arrays.fill(at, -1);
+		long[] used = new long[size * words];
+		int[] colors = new int[count];
+		int[] path = new int[16];
+		for (int e = 0; e < count; e++) {
+			int u = graph.getFirst(e);
+			int v = graph.getSecond(e);
+			int a = freeColor(used, u, words);
+			if (at[v * stride + a] >= 0) {
+				int b = freeColor(used, v, words);
+				// Collect the a/b path from v, then swap its colors
+				int length = 0;
+				int pos = v;
+				int color = a;
+				int edge = at[pos * stride + color];
+				while (edge >= 0) {
+					if (length == path.length) {
+						path = Arrays.copyOf(path, length * 2);
+					}
+					path[length++] = edge;
+					pos = pos == graph.getFirst(edge) ? graph.getSecond(edge) : graph.getFirst(edge);
+					color = color == a ? b : a;
+					edge = at[pos * stride + color];
+				}
+				for (int i = 0; i < length; i++) {
+					int p = path[i];
+					clear(at, used, stride, words, graph.getFirst(p), colors[p]);
+					clear(at, used, stride, words, graph.getSecond(p), colors[p]);
+				}
+				for (int i = 0; i < length; i++) {
+					int p = path[i];
+					colors[p] = colors[p] == a ? b : a;
+					set(at, used, stride, words, graph.getFirst(p), colors[p], p);
+					set(at, used, stride, words, graph.getSecond(p), colors[p], p);
+				}
+			}
+			colors[e] = a;
+			set(at, used, stride, words, u, a, e);
+			set(at, used, stride, words, v, a, e);
+		}
+		return colors;
+	}
+
+	/**
+	 * Get the name of the strategy for reports
+	 *
+	 * @return Strategy name
+	 */
+	public String getName() {
+		return "Bipartite";
+	}
+
+	/**
+	 * Check if a graph can be split in two sides with every
+	 * relationship crossing between them
+	 *
+	 * @param graph Relationships to check
+	 * @return True if the graph is bipartite
+	 */
+	public static boolean isBipartite(Graph graph) {
+		int size = graph.size();
+		int[] side = new int[size];
+		int[] queue = new int[size];
+		for (int s = 0; s < size; s++) {
+			if (side[s] != 0) {
+				continue;
+			}
+			side[s] = 1;
+			int head = 0;
+			int tail = 0;
+			queue[tail++] = s;
+			while (head < tail) {
+				int v = queue[head++];
+				for (int slot = graph.start(v); slot < graph.end(v); slot++) {
+					int n = graph.neighbor(slot);
+					if (side[n] == 0) {
+						side[n] = -side[v];
+						queue[tail++] = n;
+					} else if (side[n] == side[v]) {
+						return false;
+					}
+				}
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Find the lowest color free on a vertex
+	 *
+	 * @param used Used color bitsets
+	 * @param v Vertex
+	 * @param words Words per bitset
+	 * @return Free color
+	 */
+	private static int freeColor(long[] used, int v, int words) {
+		int base = v * words;
+		for (int i = 0; i < words; i++) {
+			long bits = ~used[base + i];
+			if (i == 0) {
+				bits &= ~1L;
+			}
+			if (bits != 0) {
+				return (i << 6) + Long.numberOfTrailingZeros(bits);
+			}
+		}
+		throw new IllegalStateException("Vertex " + v + " has no free color");
+	}
+
+	/**
+	 * Mark a color as used on a vertex by an edge
+	 *
+	 * @param at Edge holding each color of each vertex
+	 * @param used Used color bitsets
+	 * @param stride Colors per vertex in at
+	 * @param words Words per bitset
+	 * @param v Vertex
+	 * @param color Color
+	 * @param e Edge
+	 */
+	private static void set(int[] at, long[] used, int stride, int words, int v, int color, int e) {
+		at[v * stride + color] = e;
+		used[v * words + (color >>> 6)] |= 1L << color;
+	}
+
+	/**
+	 * Mark a color as free on a vertex
+	 *
+	 * @param at Edge holding each color of each vertex
+	 * @param used Used color bitsets
+	 * @param stride Colors per vertex in at
+	 * @param words Words per bitset
+	 * @param v Vertex
+	 * @param color Color
+	 */
+	private static void clear(int[] at, long[] used, int stride, int words, int v, int color) {
+		at[v * stride + color] = -1;
+		used[v * words + (color >>> 6)] &= ~(1L << color);
+	}
+}
@@ -0,0 +1,180 @@
+/**
+ * Purpose	Coloring strategy which colors each connected group of a
+ * 		layer on its own
+ * Status	Finished
+ * Last Update	10/17/26
+ * Submitted	N/A
+ * Comment	All code is my own original work
+ *
+ * Groups share no individuals, so color c of every group can be the
+ * same day and the merged coloring is still valid. Consecutive groups
+ * are batched until they hold BATCH_EDGES relationships, and each batch
+ * is colored as its own small graph, so no table is sized for the
+ * people outside it, tiny groups do not each pay for a graph and a
+ * task, and AutoColorer picks the strategy for every batch; a layer is
+ * only as far from bipartite as its worst batch. A group as large as a
+ * batch is colored alone.
+ *
+ * With an executor, batches are colored concurrently, and the coloring
+ * is the same as without one. Splitting groups is an opt-in: groups of
+ * at least ParallelColorer.MIN_EDGES are then colored across the
+ * executor from the calling thread, and their coloring depends on the
+ * executor size.
+ *
+ * @author	Alaina Iris
+ * @version	2026.10.17
+ */
+
+import java.util.ArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+public class ComponentColorer implements EdgeColorer {
+	// Groups are batched into tasks of at least this many relationships
+	public static final int BATCH_EDGES = 1 << 12;
+	private ExecutorService executor;
+	private boolean split;
+
+	/**
+	 * Create a colorer which colors the groups in order
+	 */
+	public ComponentColorer() {
+		this(null);
+	}
+
+	/**
+	 * Create a colorer which colors the groups concurrently, with the
+	 * same coloring as in order
+	 *
+	 * @param executor Executor to color groups on, null to color them in order
+	 */
+	public ComponentColorer(ExecutorService executor) {
+		this(executor, false);
+	}
+
+	/**
+	 * Create a colorer which colors the groups concurrently
+	 *
+	 * @param executor Executor to color groups on, null to color them in order
+	 * @param split True to color very large groups across the executor
+	 */
+	public ComponentColorer(ExecutorService executor, boolean split) {
+		this.executor = executor;
+		this.split = split && executor != null;
+	}
+
+	/**
+	 * Color every edge of a graph, one group at a time
+	 *
+	 * @param graph Relationships to color
+	 * @return Color of every edge, from 1
+	 */
+	public int[] color(Graph graph) {
+		Components groups = new Components(graph);
+		int count = groups.getCount();
+		if (count <= 1) {
+			boolean large = split && graph.getEdgeCount() >= ParallelColorer.MIN_EDGES;
+			return (large ? new ParallelColorer(executor) : new AutoColorer()).color(graph);
+		}
+		int[] colors = new int[graph.getEdgeCount()];
+		ArrayList<Future<?>> futures = new ArrayList<Future<?>>();
+		ArrayList<Integer> large = new ArrayList<Integer>();
+		int from = 0;
+		int batchEdges = 0;
+		for (int c = 0; c < count; c++) {
+			if (split && groups.getEdgeCount(c) >= ParallelColorer.MIN_EDGES) {
+				if (from < c) {
+					futures.add(colorBatch(groups, from, c, colors));
+				}
+				large.add(c);
+				from = c + 1;
+				batchEdges = 0;
+				continue;
+			}
+			batchEdges += groups.getEdgeCount(c);
+			if (batchEdges >= BATCH_EDGES) {
+				futures.add(colorBatch(groups, from, c + 1, colors));
+				from = c + 1;
+				batchEdges = 0;
+			}
+		}
+		if (from < count) {
+			futures.add(colorBatch(groups, from, count, colors));
+		}
+		for (int c : large) {
+			colorGroups(groups, c, c + 1, colors, new ParallelColorer(executor));
+		}
+		await(futures);
+		return colors;
+	}
+
+	/**
+	 * Get the name of the strategy for reports
+	 *
+	 * @return Strategy name
+	 */
+	public String getName() {
+		return "Components";
+	}
+
+	/**
+	 * Color a batch of groups as one graph, as one task when there is
+	 * an executor
+	 *
+	 * @param groups Groups of the graph
+	 * @param from First group of the batch
+	 * @param to End of the batch
+	 * @param colors Color of every edge, filled in by the batch
+	 * @return Future of the batch, null if it already ran
+	 */
+	private Future<?> colorBatch(Components groups, int from, int to, int[] colors) {
+		Runnable task = () -> colorGroups(groups, from, to, colors, new AutoColorer());
+		if (executor == null) {
+			task.run();
+			return null;
+		}
+		return executor.submit(task);
+	}
+
+	/**
+	 * Color a range of groups and copy their colors to the whole
+	 * graph's edges
+	 *
+	 * @param groups Groups of the graph
+	 * @param from First group
+	 * @param to End of the groups
+	 * @param colors Color of every edge
+	 * @param colorer Strategy to color the groups with
+	 */
+	private static void colorGroups(Components groups, int from, int to, int[] colors, EdgeColorer colorer) {
+		int[] local = colorer.color(groups.getGraph(from, to));
+		int[] edges = groups.getEdges(from, to);
+		for (int i = 0; i < edges.length; i++) {
+			colors[edges[i]] = local[i];
+		}
+	}
+
+	/**
+	 * Wait for every batch to finish, passing on the first failure
+	 *
+	 * @param futures Batches to wait for, null entries already finished
+	 */
+	private static void await(ArrayList<Future<?>> futures) {
+		try {
+			for (Future<?> future : futures) {
+				if (future != null) {
+					future.get();
+				}
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while coloring groups", e);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException) {
+				throw (RuntimeException) e.getCause();
+			}
+			throw new IllegalStateException("Unable to color group", e.getCause());
+		}
+	}
+}
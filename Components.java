@@ -0,0 +1,232 @@
+/**
+ * Purpose	Connected components of a relationship graph, found by
+ * 		union-find over the relationships
+ * Status	Finished
+ * Last Update	10/17/26
+ * Submitted	N/A
+ * Comment	All code is my own original work
+ *
+ * Only groups with at least one relationship are counted, numbered in
+ * order of their lowest individual. Individuals in a group are given
+ * local ids in the same order as their ids in the whole graph, so the
+ * sorted edge list of the graph stays sorted within every group.
+ *
+ * @author	Alaina Iris
+ * @version	2026.10.17
+ */
+
+import java.util.Arrays;
+
+public class Components {
+	private Graph graph;
+	private int count;
+	// Group of each individual, -1 for individuals with no relationships
+	private int[] component;
+	// Local id of each individual within their group
+	private int[] local;
+	// Individuals of group c are members[memberStart[c] .. memberStart[c + 1])
+	private int[] memberStart;
+	private int[] members;
+	// Edges of group c are edges[edgeStart[c] .. edgeStart[c + 1])
+	private int[] edgeStart;
+	private int[] edges;
+
+	/**
+	 * Find the connected groups of a graph
+	 *
+	 * @param graph Relationships to split
+	 */
+	public Components(Graph graph) {
+		this.graph = graph;
+		int[] parent = union();
+		label(parent);
+		group();
+	}
+
+	/**
+	 * Join the two ends of every relationship, by rank
+	 *
+	 * @return Parent of each individual
+	 */
+	private int[] union() {
+		int size = graph.size();
+		int[] parent = new int[size];
+		byte[] rank = new byte[size];
+		for (int v = 0; v < size; v++) {
+			parent[v] = v;
+		}
+		for (int e = 0; e < graph.getEdgeCount(); e++) {
+			int a = find(parent, graph.getFirst(e));
+			int b = find(parent, graph.getSecond(e));
+			if (a != b) {
+				if (rank[a] < rank[b]) {
+					int swap = a;
+					a = b;
+					b = swap;
+				}
+				parent[b] = a;
+				if (rank[a] == rank[b]) {
+					rank[a]++;
+				}
+			}
+		}
+		return parent;
+	}
+
+	/**
+	 * Number the groups by their lowest individual, and count the
+	 * individuals of each
+	 *
+	 * @param parent Parent of each individual
+	 */
+	private void label(int[] parent) {
+		int size = graph.size();
+		component = new int[size];
+		memberStart = new int[size + 1];
+		// Group of each root, found at its lowest individual
+		int[] group = new int[size];
+		Arrays.fill(group, -1);
+		for (int v = 0; v < size; v++) {
+			if (graph.degree(v) == 0) {
+				component[v] = -1;
+				continue;
+			}
+			int root = find(parent, v);
+			if (group[root] < 0) {
+				group[root] = count++;
+			}
+			component[v] = group[root];
+			memberStart[component[v] + 1]++;
+		}
+		memberStart = Arrays.copyOf(memberStart, count + 1);
+	}
+
+	/**
+	 * Lay out the individuals and relationships of every group
+	 * one group after another
+	 */
+	private void group() {
+		int size = graph.size();
+		for (int c = 0; c < count; c++) {
+			memberStart[c + 1] += memberStart[c];
+		}
+		members = new int[memberStart[count]];
+		local = new int[size];
+		int[] next = Arrays.copyOf(memberStart, count);
+		for (int v = 0; v < size; v++) {
+			int c = component[v];
+			if (c >= 0) {
+				local[v] = next[c] - memberStart[c];
+				members[next[c]++] = v;
+			}
+		}
+		edgeStart = new int[count + 1];
+		for (int e = 0; e < graph.getEdgeCount(); e++) {
+			edgeStart[component[graph.getFirst(e)] + 1]++;
+		}
+		for (int c = 0; c < count; c++) {
+			edgeStart[c + 1] += edgeStart[c];
+		}
+		edges = new int[graph.getEdgeCount()];
+		next = Arrays.copyOf(edgeStart, count);
+		for (int e = 0; e < graph.getEdgeCount(); e++) {
+			edges[next[component[graph.getFirst(e)]]++] = e;
+		}
+	}
+
+	/**
+	 * Get the number of groups with at least one relationship
+	 *
+	 * @return Number of groups
+	 */
+	public int getCount() {
+		return count;
+	}
+
+	/**
+	 * Get the group of an individual
+	 *
+	 * @param v Individual
+	 * @return Group, -1 if they have no relationships
+	 */
+	public int getComponent(int v) {
+		return component[v];
+	}
+
+	/**
+	 * Get the number of relationships in a group
+	 *
+	 * @param c Group
+	 * @return Number of relationships
+	 */
+	public int getEdgeCount(int c) {
+		return edgeStart[c + 1] - edgeStart[c];
+	}
+
+	/**
+	 * Get the individuals of a range of groups, in order. Local id i
+	 * of the range is the i-th individual.
+	 *
+	 * @param from First group
+	 * @param to End of the groups
+	 * @return Individuals of the groups
+	 */
+	public int[] getMembers(int from, int to) {
+		int[] list = new int[memberStart[to] - memberStart[from]];
+		System.arraycopy(members, memberStart[from], list, 0, list.length);
+		return list;
+	}
+
+	/**
+	 * Get the relationships of a range of groups, in order. Edge i of
+	 * the range's graph is the i-th relationship.
+	 *
+	 * @param from First group
+	 * @param to End of the groups
+	 * @return Edges of the groups
+	 */
+	public int[] getEdges(int from, int to) {
+		int[] list = new int[edgeStart[to] - edgeStart[from]];
+		System.arraycopy(edges, edgeStart[from], list, 0, list.length);
+		return list;
+	}
+
+	/**
+	 * Build the graph of a range of groups over their local ids.
+	 * Groups are numbered by their lowest individual, so the edges of
+	 * a range stay sorted.
+	 *
+	 * @param from First group
+	 * @param to End of the groups
+	 * @return Relationships of the groups
+	 */
+	public Graph getGraph(int from, int to) {
+		int count = edgeStart[to] - edgeStart[from];
+		int[] first = new int[count];
+		int[] second = new int[count];
+		int[] weights = new int[count];
+		for (int i = 0; i < count; i++) {
+			int e = edges[edgeStart[from] + i];
+			int offset = memberStart[component[graph.getFirst(e)]] - memberStart[from];
+			first[i] = offset + local[graph.getFirst(e)];
+			second[i] = offset + local[graph.getSecond(e)];
+			weights[i] = graph.getWeight(e);
+		}
+		return Graph.fromSortedEdges(memberStart[to] - memberStart[from], first, second, weights);
+	}
+
+	/**
+	 * Find the root of an individual, halving the path on the way
+	 *
+	 * @param parent Parent of each individual
+	 * @param v Individual
+	 * @return Root of the set
+	 */
+	private static int find(int[] parent, int v) {
+		while (parent[v] != v) {
+			parent[v] = parent[parent[v]];
+			v = parent[v];
+		}
+		return v;
+	}
+}
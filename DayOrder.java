@@ -0,0 +1,234 @@
+/**
+ * Purpose	Order of the days of a layer, repeating heavy days
+ * 		to shorten their longest waits
+ * Status	Finished
+ * Last Update	10/17/26
+ * Submitted	N/A
+ * Comment	All code is my own original work
+ *
+ * Starting from one of each day, the day with the heaviest wait
+ * (weight times gap to its next occurrence, earliest on ties) is
+ * repeated halfway through that gap until no gap is longer than two or
+ * a repeat makes the heaviest wait worse, in which case it is undone.
+ *
+ * Each day keeps its sorted positions and its longest gap. Inserting a
+ * day lengthens exactly one gap of every other day and splits one gap
+ * of its own, so an insertion updates one gap per day and rescans only
+ * the gaps of the repeated day. Every day's longest gap can change on
+ * an insertion, so the heaviest wait is found with a scan over the
+ * days rather than a heap.
+ *
+ * @author	Alaina Iris
+ * @version	2026.10.17
+ */
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+
+public class DayOrder {
+	// Per day index
+	private int[] colors;
+	private long[] weights;
+	private int[][] positions;
+	private int[] counts;
+	private int[] best;
+	private int[] bestLength;
+	// Day index at each position of the order
+	private int[] order;
+	private int length;
+
+	/**
+	 * Create an order with one of each day
+	 *
+	 * @param days Map of days and their maximum strains
+	 */
+	public DayOrder(HashMap<Integer, Integer> days) {
+		this(keys(days), values(days));
+	}
+
+	/**
+	 * Create an order with one of each day, in the order given
+	 *
+	 * @param days Day of each index
+	 * @param maximum Maximum strain of each day
+	 */
+	public DayOrder(int[] days, int[] maximum) {
+		int size = days.length;
+		colors = days;
+		weights = new long[size];
+		positions = new int[size][];
+		counts = new int[size];
+		best = new int[size];
+		bestLength = new int[size];
+		order = new int[Math.max(16, size * 2)];
+		for (int i = 0; i < size; i++) {
+			weights[i] = maximum[i];
+			positions[i] = new int[] {i, 0};
+			counts[i] = 1;
+			bestLength[i] = size;
+			order[i] = i;
+		}
+		length = size;
+	}
+
+	/**
+	 * Get the days of a map in its iteration order
+	 *
+	 * @param days Map of days and their maximum strains
+	 * @return Days
+	 */
+	private static int[] keys(HashMap<Integer, Integer> days) {
+		int[] keys = new int[days.size()];
+		int i = 0;
+		for (Integer day : days.keySet()) {
+			keys[i++] = day;
+		}
+		return keys;
+	}
+
+	/**
+	 * Get the strains of a map in its iteration order
+	 *
+	 * @param days Map of days and their maximum strains
+	 * @return Maximum strain of each day
+	 */
+	private static int[] values(HashMap<Integer, Integer> days) {
+		int[] values = new int[days.size()];
+		int i = 0;
+		for (Integer day : days.keySet()) {
+			values[i++] = days.get(day);
+		}
+		return values;
+	}
+
+	/**
+	 * Repeat days until the heaviest wait stops improving
+	 *
+	 * @return Order of days
+	 */
+	public ArrayList<Integer> optimize() {
+		boolean minimum = length == 0;
+		while (!minimum) {
+			int day = heaviest();
+			int start = positions[day][best[day]];
+			int end = start + bestLength[day];
+			// Attempt reduction
+			if (end - start <= 2) {
+				minimum = true;
+			} else {
+				long weight = weights[day] * bestLength[day];
+				int added = (start + end + 1) / 2 % length;
+				insert(added, day);
+				int next = heaviest();
+				if (weights[next] * bestLength[next] > weight) {
+					minimum = true;
+					System.arraycopy(order, added + 1, order, added, length - added - 1);
+					length--;
+				}
+			}
+		}
+		ArrayList<Integer> result = new ArrayList<Integer>();
+		for (int i = 0; i < length; i++) {
+			result.add(colors[order[i]]);
+		}
+		return result;
+	}
+
+	/**
+	 * Find the day with the heaviest wait, taking the earliest wait
+	 * on ties
+	 *
+	 * @return Day index
+	 */
+	private int heaviest() {
+		int max = 0;
+		for (int day = 1; day < colors.length; day++) {
+			long weight = weights[day] * bestLength[day];
+			long maxWeight = weights[max] * bestLength[max];
+			if (weight > maxWeight || (weight == maxWeight
+					&& positions[day][best[day]] < positions[max][best[max]])) {
+				max = day;
+			}
+		}
+		return max;
+	}
+
+	/**
+	 * Insert a day before a position
+	 *
+	 * @param added Position to insert at
+	 * @param day Day index to insert
+	 */
+	private void insert(int added, int day) {
+		if (length == order.length) {
+			order = Arrays.copyOf(order, length * 2);
+		}
+		System.arraycopy(order, added, order, added + 1, length - added);
+		order[added] = day;
+		length++;
+		for (int d = 0; d < colors.length; d++) {
+			int[] at = positions[d];
+			int j = counts[d];
+			while (j > 0 && at[j - 1] >= added) {
+				at[j - 1]++;
+				j--;
+			}
+			if (d == day) {
+				split(day, j, added);
+			} else {
+				// The gap holding the new position is one longer
+				int gap = j > 0 ? j - 1 : counts[d] - 1;
+				int len = gap == best[d] ? bestLength[d] + 1 : gapLength(d, gap);
+				if (gap == best[d] || len > bestLength[d]
+						|| (len == bestLength[d] && at[gap] < at[best[d]])) {
+					best[d] = gap;
+					bestLength[d] = len;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Add a position to a day and find its longest gap again
+	 *
+	 * @param day Day index
+	 * @param j Index to add the position at
+	 * @param added Position to add
+	 */
+	private void split(int day, int j, int added) {
+		int[] at = positions[day];
+		if (counts[day] == at.length) {
+			at = Arrays.copyOf(at, at.length * 2);
+			positions[day] = at;
+		}
+		System.arraycopy(at, j, at, j + 1, counts[day] - j);
+		at[j] = added;
+		counts[day]++;
+		best[day] = 0;
+		bestLength[day] = gapLength(day, 0);
+		for (int gap = 1; gap < counts[day]; gap++) {
+			int len = gapLength(day, gap);
+			if (len > bestLength[day]) {
+				best[day] = gap;
+				bestLength[day] = len;
+			}
+		}
+	}
+
+	/**
+	 * Get the length of a gap, from a position of a day to its next
+	 * position, wrapping around the end of the order
+	 *
+	 * @param day Day index
+	 * @param gap Index of the position starting the gap
+	 * @return Gap length
+	 */
+	private int gapLength(int day, int gap) {
+		int[] at = positions[day];
+		if (gap < counts[day] - 1) {
+			return at[gap + 1] - at[gap];
+		}
+		return at[0] + length - at[gap];
+	}
+}
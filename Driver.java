@@ -1,7 +1,7 @@
 /**
  * Assignment 	Data Structure and Algorithms Lab 0
  * Status	Barely Started
- * Last Update	01/04/25
+ * Last Update	10/17/26
  * Submitted	N/A
  * Comment	All code is my own original work
  * Attribution	This program is an implementation of a solution to the
@@ -10,16 +10,46 @@
  * 		https://arxiv.org/pdf/2403.00465
  * 		
  * @author	Alaina Iris
- * @version	2025.01.04
+ * @version	2026.10.17
  */
 import java.util.ArrayList;
 import java.util.Random;
-import java.io.File;
-import java.io.FileNotFoundException;
-import java.util.Scanner;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintStream;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
 
 public class Driver {
+	private static ExecutorService executor;
+	private static boolean split;
+	private static Path output;
+	private static int format = ScheduleWriter.TEXT;
+	private static ScheduleCache cache;
+	private static long improve;
+
 	public static void main(String[] args) {
+		try {
+			args = parseThreads(args);
+			args = parseOutput(args);
+			args = parseCache(args);
+			args = parseMetrics(args);
+			args = parseImprove(args);
+		} catch (IllegalArgumentException e) {
+			System.out.println(e.getMessage() + " Add -h to get help.");
+			if (executor != null) {
+				executor.shutdown();
+			}
+			return;
+		}
 		if (args.length == 0) {
 			System.out.println("Invalid use. Add -h to get help.");
 		}
@@ -30,29 +60,254 @@ public class Driver {
 					break;
 				case "-p":
 					boolean data = false;
-					if (args.length > 1 && args[1].contains("-d")) {
-						data = true;
+					boolean compare = false;
+					boolean improvement = false;
+					for (int i = 1; i < args.length; i++) {
+						if (args[i].contains("-d")) {
+							data = true;
+						} else if (args[i].contains("-c")) {
+							compare = true;
+						} else if (args[i].contains("-i")) {
+							improvement = true;
+						}
+					}
+					if (improvement) {
+						improvementTest(data);
+					} else if (compare) {
+						coloringTest(data);
+					} else {
+						performanceTest(data);
 					}
-					performanceTest(data);
 					break;
 				case "-i":
-					if (args.length < 2) {
+					if (args.length < 2 || (args[1].startsWith("--") && args.length < 3)) {
 						System.out.println("Please provide a file!");
+					} else if (args[1].startsWith("--")) {
+						inputTest(args[1], args[2]);
+					} else {
+						inputTest("--matrix", args[1]);
+					}
+					break;
+				case "-c":
+					if (args.length < 3 || (args[1].startsWith("--") && args.length < 4)) {
+						System.out.println("Please provide an input and output file!");
+					} else if (args[1].startsWith("--")) {
+						convertTest(args[1], args[2], args[3]);
+					} else {
+						convertTest("--matrix", args[1], args[2]);
+					}
+					break;
+				case "-b":
+					if (args.length < 2 || (args[1].startsWith("--") && args.length < 3)) {
+						System.out.println("Please provide a directory or manifest!");
+					} else if (args[1].startsWith("--")) {
+						batchTest(args[1], args[2]);
 					} else {
-						inputTest(args[1]);
+						batchTest(null, args[1]);
+					}
+					break;
+				case "-s":
+					if (args.length < 2) {
+						System.out.println("Please provide a port!");
+					} else {
+						serverTest(args);
+						return;
 					}
 					break;
 				case "-h":
 					System.out.println("Network Scheduler:\n" +
 							"java Driver [OPTIONS]\n" +
-							"-e: Base Example\t" + "-p: Performance Test [-d turns output to datapoints]\t" + 
-							"-i [file]: Use input file");
+							"-e: Base Example\t" + "-p: Performance Test [-d turns output to datapoints] " +
+							"[-c compares edge coloring strategies] [-i tests schedule improvement]\t" +
+							"-i [--edges|--snapshot] [file]: Use input file\t" +
+							"-c [--edges] [file] [snapshot]: Convert input file to snapshot\t" +
+							"-b [--matrix|--edges|--snapshot] [dir|manifest]: Schedule every input file\t" +
+							"-s [port] [--max-concurrent n]: Serve schedules over HTTP\t" +
+							"-t [threads]: Build layers in parallel\t" +
+							"--split: With -t, also split very large groups across threads\t" +
+							"-o [file]: Write the schedule to a file\t" +
+							"-f [text|csv|jsonl]: Schedule output format\t" +
+							"--cache [dir]: Reuse schedules stored in dir\t" +
+							"--cache-size [MB]: Cache size, 256 by default\t" +
+							"--no-cache: Bypass the cache\t" +
+							"--metrics: Print phase timers and counters\t" +
+							"--improve [ms]: Improve the schedule by local search for ms");
 					break;
 				default:
 					System.out.println("Invalid use. Add -h to get help");
 					break;
 			}
 		}
+		if (executor != null) {
+			executor.shutdown();
+		}
+		if (Metrics.isEnabled()) {
+			System.err.println("\nScheduler Metrics:\n" + Metrics.snapshot());
+		}
+	}
+
+	/**
+	 * Take the -t [threads] and --split options out of the arguments.
+	 * With more than one thread, layers are built on a pool of that
+	 * size, and with --split very large groups of a layer are colored
+	 * across the pool too.
+	 *
+	 * @param args Command line arguments
+	 * @return Remaining arguments
+	 * @throws IllegalArgumentException If the thread count is not a
+	 * 		whole number of at least 1
+	 */
+	private static String[] parseThreads(String[] args) {
+		ArrayList<String> rest = new ArrayList<String>();
+		for (int i = 0; i < args.length; i++) {
+			if (args[i].equals("-t") && i + 1 < args.length) {
+				int threads = (int) wholeNumber("-t", args[++i], 1, Integer.MAX_VALUE);
+				if (threads > 1) {
+					executor = new ForkJoinPool(threads);
+				}
+			} else if (args[i].equals("--split")) {
+				split = true;
+			} else {
+				rest.add(args[i]);
+			}
+		}
+		return rest.toArray(new String[0]);
+	}
+
+	/**
+	 * Read the whole number given to an option
+	 *
+	 * @param option Option the number was given to
+	 * @param value Number as given
+	 * @param min Smallest number allowed
+	 * @param max Largest number allowed
+	 * @return Number
+	 * @throws IllegalArgumentException If the value is not a whole
+	 * 		number from min to max
+	 */
+	private static long wholeNumber(String option, String value, long min, long max) {
+		long number;
+		try {
+			number = Long.parseLong(value);
+		} catch (NumberFormatException e) {
+			number = min - 1;
+		}
+		if (number < min || number > max) {
+			String range = max >= Integer.MAX_VALUE ? "of at least " + min : "from " + min + " to " + max;
+			throw new IllegalArgumentException("Please provide a whole number " + range +
+					" for " + option + ", got " + value + ".");
+		}
+		return number;
+	}
+
+	/**
+	 * Take the -o [file] and -f [format] options out of the arguments
+	 *
+	 * @param args Command line arguments
+	 * @return Remaining arguments
+	 * @throws IllegalArgumentException If the format is not text, csv
+	 * 		or jsonl
+	 */
+	private static String[] parseOutput(String[] args) {
+		ArrayList<String> rest = new ArrayList<String>();
+		for (int i = 0; i < args.length; i++) {
+			if (args[i].equals("-o") && i + 1 < args.length) {
+				output = Paths.get(args[++i]);
+			} else if (args[i].equals("-f") && i + 1 < args.length) {
+				String name = args[++i];
+				try {
+					format = ScheduleWriter.format(name);
+				} catch (IllegalArgumentException e) {
+					throw new IllegalArgumentException("Please provide text, csv or jsonl for -f, got " + name + ".");
+				}
+			} else {
+				rest.add(args[i]);
+			}
+		}
+		return rest.toArray(new String[0]);
+	}
+
+	/**
+	 * Take the --metrics option out of the arguments. With it, phase
+	 * timers and counters are recorded, registered over JMX and printed
+	 * when the run ends.
+	 *
+	 * @param args Command line arguments
+	 * @return Remaining arguments
+	 */
+	private static String[] parseMetrics(String[] args) {
+		ArrayList<String> rest = new ArrayList<String>();
+		for (String arg : args) {
+			if (arg.equals("--metrics")) {
+				Metrics.setEnabled(true);
+			} else {
+				rest.add(arg);
+			}
+		}
+		if (Metrics.isEnabled()) {
+			Metrics.registerMBean();
+		}
+		return rest.toArray(new String[0]);
+	}
+
+	/**
+	 * Take the --improve [ms] option out of the arguments. With it,
+	 * single runs spend that long improving the schedule by local
+	 * search, one search per thread of -t.
+	 *
+	 * @param args Command line arguments
+	 * @return Remaining arguments
+	 * @throws IllegalArgumentException If the budget is not a whole
+	 * 		number of at least 1
+	 */
+	private static String[] parseImprove(String[] args) {
+		ArrayList<String> rest = new ArrayList<String>();
+		for (int i = 0; i < args.length; i++) {
+			if (args[i].equals("--improve") && i + 1 < args.length) {
+				improve = wholeNumber("--improve", args[++i], 1, Long.MAX_VALUE / 1000000);
+			} else {
+				rest.add(args[i]);
+			}
+		}
+		return rest.toArray(new String[0]);
+	}
+
+	/**
+	 * Take the --cache [dir], --cache-size [MB] and --no-cache options
+	 * out of the arguments. The cache is only used with --cache, and
+	 * --no-cache turns it off again.
+	 *
+	 * @param args Command line arguments
+	 * @return Remaining arguments
+	 * @throws IllegalArgumentException If the size is not a whole number
+	 * 		of at least 1
+	 */
+	private static String[] parseCache(String[] args) {
+		ArrayList<String> rest = new ArrayList<String>();
+		Path dir = null;
+		long size = 256;
+		boolean bypass = false;
+		for (int i = 0; i < args.length; i++) {
+			if (args[i].equals("--cache") && i + 1 < args.length) {
+				dir = Paths.get(args[++i]);
+			} else if (args[i].equals("--cache-size") && i + 1 < args.length) {
+				size = wholeNumber("--cache-size", args[++i], 1, Long.MAX_VALUE >> 20);
+			} else if (args[i].equals("--no-cache")) {
+				bypass = true;
+			} else {
+				rest.add(args[i]);
+			}
+		}
+		if (dir != null && !bypass) {
+			try {
+				cache = new ScheduleCache(dir, size << 20);
+			} catch (IOException e) {
+				System.out.println("Unable to open the cache at " + dir + ", running without it.");
+			} catch (IllegalArgumentException e) {
+				System.out.println(e.getMessage() + ", running without the cache.");
+			}
+		}
+		return rest.toArray(new String[0]);
 	}
 
 	/**
@@ -62,25 +317,61 @@ public class Driver {
 	 * @param names Names to use
 	 */
 	public static void singleRun(int[][] network, String[] names) {
-		Network n = new Network(network, names);
-		System.out.println(
-				"/**********************/\n" +
-				"Network Matrix Provided:\n" +
-				"/**********************/\n" +
-				n
-				);
-		Schedule s = n.optimizedSchedule();
-		System.out.println(
-				"/**********************/\n" +
-				"   Generated Schedule   \n" +
-				"/**********************/\n" +
-				s
+		singleRun(new Network(network, names));
+	}
+
+	/**
+	 * Get detailed run information for a single run
+	 *
+	 * @param n Network to use
+	 */
+	public static void singleRun(Network n) {
+		Schedule s = cache == null ? n.optimizedSchedule(executor, split) : cache.getSchedule(n, executor, split);
+		if (improve > 0) {
+			s = n.improvedSchedule(s, improve, 0, executor);
+		}
+		// Text keeps the matrix with the schedule; other formats only
+		// hold the schedule, so statistics go to stderr if they would
+		// share stdout with it
+		PrintStream stats = System.out;
+		try {
+			if (output == null) {
+				Writer out = new BufferedWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8), 1 << 16);
+				writeSchedule(n, s, new ScheduleWriter(out, format), out);
+				out.flush();
+				if (format != ScheduleWriter.TEXT) {
+					stats = System.err;
+				}
+			} else {
+				try (FileChannel channel = FileChannel.open(output, StandardOpenOption.WRITE,
+						StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING)) {
+					Writer out = new BufferedWriter(Channels.newWriter(channel, StandardCharsets.UTF_8), 1 << 16);
+					writeSchedule(n, s, new ScheduleWriter(out, format), out);
+					out.flush();
+				}
+				System.out.println("Wrote the schedule to " + output);
+			}
+		} catch (IOException e) {
+			System.out.println("Unable to write the schedule, check that you have permissions to " + output);
+			return;
+		}
+		stats.println(statistics(n, n.getStrain(s)) +
+				(cache == null ? "" : "\nSchedule Cache:\t\t\t" + (cache.getHits() > 0 ? "hit" : "miss"))
 				);
-		int weight = n.getScheduleWeight(s);
+	}
+
+	/**
+	 * Get the general statistics of a schedule
+	 *
+	 * @param n Network of the run
+	 * @param strain Strain of the schedule
+	 * @return Statistics text
+	 */
+	public static String statistics(Network n, Strain strain) {
+		int weight = strain.getMaximum();
 		int lowBound = n.getMinimumRun();
 		int maxBound = n.getApproximationLimit();
-		System.out.println(
-				"\n/**********************/\n" +
+		return "\n/**********************/\n" +
 				"   General Statistics   \n" +
 				"/**********************/\n" +
 				"\nMaximum Strain Endured:\t\t" + weight +
@@ -88,8 +379,58 @@ public class Driver {
 				"\nApproximation Limit:\t\t" + maxBound +
 				"\nHypothetical Performance:\t" +
 				(int) ((double) weight / (double) lowBound * 100.0)
-				+ "% of Lower Bound for Optimal Run"
-				);
+				+ "% of Lower Bound for Optimal Run" +
+				"\nBottleneck Relationships:\t" + bottlenecks(n, strain);
+	}
+
+	/**
+	 * Write the schedule of a run, with the network matrix before it
+	 * in the text format
+	 *
+	 * @param n Network of the run
+	 * @param s Schedule of the run
+	 * @param writer Writer in the chosen format
+	 * @param out Output of the writer
+	 * @throws IOException If the output cannot be written
+	 */
+	private static void writeSchedule(Network n, Schedule s, ScheduleWriter writer, Writer out) throws IOException {
+		if (format != ScheduleWriter.TEXT) {
+			writer.write(s);
+			return;
+		}
+		out.append("/**********************/\n" +
+				"Network Matrix Provided:\n" +
+				"/**********************/\n");
+		writer.writeMatrix(n.getGraph(), null);
+		out.append("\n/**********************/\n" +
+				"   Generated Schedule   \n" +
+				"/**********************/\n");
+		writer.write(s);
+		out.append('\n');
+	}
+
+	/**
+	 * List the relationships which reach the maximum strain
+	 *
+	 * @param n Network the strain was found on
+	 * @param strain Strain of the schedule
+	 * @return Pretty list of bottlenecks
+	 */
+	public static String bottlenecks(Network n, Strain strain) {
+		Graph g = n.getGraph();
+		String[] names = n.getNames();
+		StringBuilder str = new StringBuilder();
+		for (int e : strain.getBottlenecks()) {
+			if (str.length() > 0) {
+				str.append(", ");
+			}
+			if (names != null) {
+				str.append(names[g.getFirst(e)]).append(" and ").append(names[g.getSecond(e)]);
+			} else {
+				str.append(g.getFirst(e)).append(" and ").append(g.getSecond(e));
+			}
+		}
+		return str.toString();
 	}
 
 	/**
@@ -133,35 +474,288 @@ public class Driver {
 		}
 	}
 
+	/**
+	 * Compare the original Fan coloring against each coloring strategy
+	 * on the same random networks, and on random networks of two groups
+	 * which only meet across the groups
+	 *
+	 * @param  datapoint Produce datapoint output instead, for easy transfer
+	 */
+	public static void coloringTest(boolean datapoint) {
+		if (!datapoint) {
+			System.out.println("Edge coloring of 100 random networks with:\n");
+		}
+		EdgeColorer[] strategies = {new MisraGriesColorer(), new GreedyColorer(), new AutoColorer()};
+		for (int i = 10; i <= 250; i += 10) {
+			Graph[] graphs = new Graph[100];
+			for (int j = 0; j < graphs.length; j++) {
+				graphs[j] = Graph.fromMatrix(generateMatrix(i, 1000));
+			}
+			long start = System.currentTimeMillis();
+			for (Graph g : graphs) {
+				int[] colors = new int[g.getEdgeCount()];
+				for (int e = 0; e < colors.length; e++) {
+					colors[e] = -1;
+				}
+				for (int e = 0; e < colors.length; e++) {
+					new Fan(g, colors, g.getFirst(e), g.getSecond(e)).invertCDPath();
+				}
+			}
+			long fan = System.currentTimeMillis() - start;
+			System.out.println((datapoint ? "(" + i + "," + fan : i + " people took " + fan + " milliseconds with Fan") +
+				compareColorers(graphs, strategies, datapoint));
+		}
+		if (!datapoint) {
+			System.out.println("\nEdge coloring of 100 random networks of two groups with:\n");
+		}
+		strategies = new EdgeColorer[] {new MisraGriesColorer(), new BipartiteColorer(), new GreedyColorer(), new AutoColorer()};
+		for (int i = 10; i <= 250; i += 10) {
+			Graph[] graphs = new Graph[100];
+			for (int j = 0; j < graphs.length; j++) {
+				int[][] matrix = generateMatrix(i, 1000);
+				for (int a = 0; a < i; a++) {
+					for (int b = 0; b < i; b++) {
+						if ((a < i / 2) == (b < i / 2)) {
+							matrix[a][b] = 0;
+						}
+					}
+				}
+				graphs[j] = Graph.fromMatrix(matrix);
+			}
+			System.out.println((datapoint ? "(" + i : i + " people took") +
+				compareColorers(graphs, strategies, datapoint).substring(datapoint ? 0 : 1));
+		}
+	}
+
+	/**
+	 * Improve schedules of networks with no relationships, then of
+	 * random networks, checking no schedule gets worse and averaging
+	 * the weight against the lower bound before and after
+	 *
+	 * @param  datapoint Produce datapoint output instead, for easy transfer
+	 */
+	public static void improvementTest(boolean datapoint) {
+		int failed = 0;
+		for (int i = 1; i <= 3; i++) {
+			Network n = new Network(new int[i][i], null);
+			try {
+				Schedule s = n.optimizedSchedule(executor, split);
+				if (n.getScheduleWeight(n.improvedSchedule(s, 0, 1000, executor)) != 0) {
+					System.out.println("Improving a network of " + i + " people with no relationships gave strain");
+					failed++;
+				}
+			} catch (RuntimeException e) {
+				System.out.println("Improving a network of " + i + " people with no relationships failed: " + e);
+				failed++;
+			}
+		}
+		if (!datapoint) {
+			System.out.println("Improvement of 100 random networks with 1000 moves per search:\n");
+		}
+		for (int i = 10; i <= 250; i += 10) {
+			double before = 0;
+			double after = 0;
+			long start = System.currentTimeMillis();
+			for (int j = 0; j < 100; j++) {
+				Network n = new Network(generateMatrix(i, 1000), null);
+				Schedule s = n.optimizedSchedule(executor, split);
+				int weight = n.getScheduleWeight(s);
+				int improved = n.getScheduleWeight(n.improvedSchedule(s, 0, 1000, executor));
+				if (improved > weight) {
+					failed++;
+				}
+				if (n.getMinimumRun() > 0) {
+					before += (double) weight / n.getMinimumRun();
+					after += (double) improved / n.getMinimumRun();
+				}
+			}
+			long time = System.currentTimeMillis() - start;
+			System.out.println(datapoint ?
+				String.format("(%d,%d,%.0f,%.0f),", i, time, before, after) :
+				String.format("%d people took %d milliseconds, from %.0f%% to %.0f%% of Lower Bound", i, time, before, after));
+		}
+		if (failed > 0) {
+			System.out.println(failed + " improvements failed");
+		}
+	}
+
+	/**
+	 * Color networks with each strategy, timing them and averaging the
+	 * colors used
+	 *
+	 * @param  graphs Networks to color
+	 * @param  strategies Strategies to compare
+	 * @param  datapoint Produce datapoint output instead, for easy transfer
+	 * @return Time and average colors of each strategy
+	 */
+	private static String compareColorers(Graph[] graphs, EdgeColorer[] strategies, boolean datapoint) {
+		StringBuilder str = new StringBuilder();
+		for (EdgeColorer strategy : strategies) {
+			long used = 0;
+			long start = System.currentTimeMillis();
+			for (Graph g : graphs) {
+				int highest = 0;
+				for (int color : strategy.color(g)) {
+					highest = Math.max(highest, color);
+				}
+				used += highest;
+			}
+			long time = System.currentTimeMillis() - start;
+			String colors = String.format("%.2f", (double) used / graphs.length);
+			str.append(datapoint ? "," + time + "," + colors :
+				", " + time + " milliseconds and " + colors + " colors with " + strategy.getName());
+		}
+		return datapoint ? str.append("),").toString() : str.toString();
+	}
+
 	/**
 	 * Attempt to run a test on a given CSV file
 	 *
+	 * @param  format Input format, --matrix, --edges or --snapshot
 	 * @param  fileName Name of file to use
 	 */
-	public static void inputTest(String fileName) {
+	public static void inputTest(String format, String fileName) {
+		Network n;
 		try {
-			File f = new File(fileName);
-			Scanner s = new Scanner(f);
-			String[] names = s.nextLine().split(",");
-			int len = names.length;
-			int[][] network = new int[len][len];
-			int rowNum = 0;
-			while (s.hasNextLine()) {
-				String[] row = s.nextLine().split(",");
-				if (row.length != len) {
-					throw new IllegalArgumentException("Please ensure your file has even rows!");
-				} else {
-					for (int i = rowNum + 1; i < len; i++) {
-						network[i][rowNum] = Integer.parseInt(row[i]);
-						network[rowNum][i] = Integer.parseInt(row[i]);
-					}
-				}
-				rowNum++;
+			n = readNetwork(format, Paths.get(fileName));
+		} catch (IOException e) {
+			System.out.println("Unable to access file, check that it exists and you have permissions to it.");
+			return;
+		} catch (IllegalArgumentException e) {
+			System.out.println(withHelp(e.getMessage()));
+			return;
+		}
+		if (n != null) {
+			singleRun(n);
+		}
+	}
+
+	/**
+	 * End a message about bad input with a pointer to the help
+	 *
+	 * @param  message Message, with or without a full stop
+	 * @return Message ending in "Add -h to get help."
+	 */
+	private static String withHelp(String message) {
+		if (!message.endsWith(".") && !message.endsWith("!")) {
+			message += ".";
+		}
+		return message + " Add -h to get help.";
+	}
+
+	/**
+	 * Convert an input file to a binary snapshot
+	 *
+	 * @param  format Input format, --matrix or --edges
+	 * @param  fileName Name of file to convert
+	 * @param  snapshotName Name of snapshot to write
+	 */
+	public static void convertTest(String format, String fileName, String snapshotName) {
+		try {
+			Network n = readNetwork(format, Paths.get(fileName));
+			if (n != null) {
+				Snapshot.write(n, Paths.get(snapshotName));
+				System.out.println("Wrote " + n.getGraph().size() + " people and " +
+						n.getNumberOfRelationships() + " relationships to " + snapshotName);
 			}
-			s.close();
-			singleRun(network, names);
-		} catch (FileNotFoundException e) {
+		} catch (IOException e) {
 			System.out.println("Unable to access file, check that it exists and you have permissions to it.");
+		} catch (IllegalArgumentException e) {
+			System.out.println(withHelp(e.getMessage()));
+		}
+	}
+
+	/**
+	 * Schedule every network of a directory or manifest, writing each
+	 * schedule and its statistics next to its input
+	 *
+	 * @param  format Input format, --matrix, --edges or --snapshot, null to go by extension
+	 * @param  source Directory or manifest of input files
+	 */
+	public static void batchTest(String format, String source) {
+		ArrayList<Path> files;
+		try {
+			files = BatchRunner.inputs(Paths.get(source));
+		} catch (IOException e) {
+			System.out.println("Unable to access " + source + ", check that it exists and you have permissions to it.");
+			return;
+		}
+		int threads = executor == null ? Runtime.getRuntime().availableProcessors() :
+				((ForkJoinPool) executor).getParallelism();
+		ExecutorService cpu = executor == null ? new ForkJoinPool(threads) : executor;
+		try {
+			new BatchRunner(cpu, Driver.format, cache, 2 * threads).run(files, format);
+		} finally {
+			if (cpu != executor) {
+				cpu.shutdown();
+			}
+		}
+	}
+
+	/**
+	 * Serve schedules over HTTP until the process is stopped. Requests
+	 * are scheduled on the -t pool, or one thread per core, and at most
+	 * --max-concurrent requests (twice the threads by default) are
+	 * scheduled at once.
+	 *
+	 * @param  args -s, the port, and optionally --max-concurrent [n]
+	 */
+	public static void serverTest(String[] args) {
+		int threads = executor == null ? Runtime.getRuntime().availableProcessors() :
+				((ForkJoinPool) executor).getParallelism();
+		int maxConcurrent = 2 * threads;
+		int port;
+		try {
+			port = (int) wholeNumber("-s", args[1], 0, 65535);
+			for (int i = 2; i < args.length; i++) {
+				if (!args[i].equals("--max-concurrent")) {
+					throw new IllegalArgumentException("Unknown option " + args[i] + " for -s.");
+				}
+				if (i + 1 == args.length) {
+					throw new IllegalArgumentException("Please provide a whole number of at least 1 for --max-concurrent.");
+				}
+				maxConcurrent = (int) wholeNumber("--max-concurrent", args[++i], 1, Integer.MAX_VALUE);
+			}
+		} catch (IllegalArgumentException e) {
+			System.out.println(withHelp(e.getMessage()));
+			return;
+		}
+		ScheduleServer server;
+		try {
+			ExecutorService cpu = executor == null ? new ForkJoinPool(threads) : executor;
+			server = new ScheduleServer(port, cpu, cache, maxConcurrent);
+		} catch (IllegalArgumentException e) {
+			System.out.println(e.getMessage());
+			return;
+		} catch (IOException e) {
+			System.out.println("Unable to listen on port " + args[1] + ": " + e.getMessage());
+			return;
+		}
+		server.start();
+		Runtime.getRuntime().addShutdownHook(new Thread(() -> server.stop(1)));
+		System.out.println("Scheduling on port " + server.getPort() + " with at most " +
+				maxConcurrent + " requests at once. POST to /schedule, GET /metrics.");
+	}
+
+	/**
+	 * Read a network in a given format
+	 *
+	 * @param  format Input format, --matrix, --edges or --snapshot
+	 * @param  file File to read
+	 * @return Network, null if the format is unknown
+	 * @throws IOException If the file cannot be read
+	 */
+	public static Network readNetwork(String format, Path file) throws IOException {
+		switch (format) {
+			case "--matrix":
+				return MatrixReader.read(file, executor);
+			case "--edges":
+				return EdgeListReader.read(file);
+			case "--snapshot":
+				return Snapshot.read(file);
+			default:
+				System.out.println("Unknown input format " + format + ". Add -h to get help.");
+				return null;
 		}
 	}
 
@@ -169,7 +763,7 @@ public class Driver {
 		for (int i = runs - 1; i >= 0; i--) {
 			int[][] networkMatrix = generateMatrix(nodes, maxEdge);
 			Network n = new Network(networkMatrix, null);
-			Schedule s = n.optimizedSchedule();
+			Schedule s = n.optimizedSchedule(executor, split);
 		}
 	}
 
@@ -0,0 +1,226 @@
+/**
+ * Purpose	Layer whose relationships can be added and removed
+ * 		without coloring the layer again
+ * Status	Finished
+ * Last Update	10/17/26
+ * Submitted	N/A
+ * Comment	All code is my own original work
+ *
+ * Every color owns one pool day of the schedule, so moving a
+ * relationship between colors updates every day of that color in the
+ * schedule at once. Pool days are kept unordered, with each
+ * relationship knowing its position, so a move costs O(1).
+ *
+ * @author	Alaina Iris
+ * @version	2026.10.17
+ */
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+
+public class DynamicLayer {
+	private MisraGries engine;
+	// Per edge id
+	private int[] weights;
+	private int[] scheduled;
+	private int[] position;
+	// Per color, index 0 unused
+	private ArrayList<int[]> dayEdges;
+	private ArrayList<Integer> dayCount;
+	private boolean[] ordered;
+	private ArrayList<Integer> order;
+	// Schedule to patch, with the pool day of color c at base + c - 1
+	private Schedule target;
+	private int base;
+	private int pooled;
+
+	/**
+	 * Create a layer and color it. Edge ids of the layer are the
+	 * edge indexes of the graph, and the first schedule is the same
+	 * as a Layer would make.
+	 *
+	 * @param relation Relationships within the layer
+	 */
+	public DynamicLayer(Graph relation) {
+		engine = new MisraGries(relation);
+		engine.setColors(new ComponentColorer().color(relation));
+		int edges = relation.getEdgeCount();
+		weights = new int[Math.max(16, edges)];
+		scheduled = new int[weights.length];
+		position = new int[weights.length];
+		dayEdges = new ArrayList<int[]>();
+		dayCount = new ArrayList<Integer>();
+		for (int e = 0; e < edges; e++) {
+			weights[e] = relation.getWeight(e);
+			place(e, engine.getColor(e));
+		}
+		order();
+	}
+
+	/**
+	 * Add a relationship, recoloring only the edges on its fan and
+	 * cd-path
+	 *
+	 * @param u First individual
+	 * @param v Second individual
+	 * @param w Weight of the relationship
+	 * @return Edge id of the relationship
+	 */
+	public int add(int u, int v, int w) {
+		int e = engine.addEdge(u, v);
+		if (e >= weights.length) {
+			weights = Arrays.copyOf(weights, weights.length * 2);
+			scheduled = Arrays.copyOf(scheduled, weights.length);
+			position = Arrays.copyOf(position, weights.length);
+		}
+		weights[e] = w;
+		scheduled[e] = 0;
+		boolean newColor = false;
+		for (int i = 0; i < engine.getChangedCount(); i++) {
+			int changed = engine.getChanged(i);
+			int color = engine.getColor(changed);
+			if (scheduled[changed] != color) {
+				unplace(changed);
+				place(changed, color);
+				newColor |= color >= ordered.length || !ordered[color];
+			}
+		}
+		if (newColor) {
+			order();
+		}
+		return e;
+	}
+
+	/**
+	 * Remove a relationship. Its day stays in the schedule even if
+	 * it becomes empty.
+	 *
+	 * @param e Edge id of the relationship
+	 */
+	public void remove(int e) {
+		unplace(e);
+		engine.removeEdge(e);
+	}
+
+	/**
+	 * Change the weight of a relationship. The order of days is kept.
+	 *
+	 * @param e Edge id of the relationship
+	 * @param w New weight
+	 */
+	public void setWeight(int e, int w) {
+		weights[e] = w;
+	}
+
+	/**
+	 * Get the order of colors of this layer. A new order is made only
+	 * when a color which was not in the order is used.
+	 *
+	 * @return Order of days, by color
+	 */
+	public ArrayList<Integer> getOrder() {
+		return order;
+	}
+
+	/**
+	 * Build a schedule of this layer, with one pool day per color in
+	 * color order
+	 *
+	 * @return Layer schedule
+	 */
+	public Schedule getSchedule() {
+		Schedule schedule = new Schedule();
+		pooled = dayEdges.size() - 1;
+		for (int color = 1; color <= pooled; color++) {
+			int p = schedule.addPoolDay(dayCount.get(color));
+			int[] ids = dayEdges.get(color);
+			for (int i = 0; i < dayCount.get(color); i++) {
+				schedule.addMeetup(p, engine.getFirst(ids[i]), engine.getSecond(ids[i]));
+			}
+		}
+		for (int color : order) {
+			schedule.addDay(color - 1);
+		}
+		return schedule;
+	}
+
+	/**
+	 * Set the schedule to patch as relationships move. It must hold
+	 * the pool days of the last call to getSchedule.
+	 *
+	 * @param schedule Schedule to patch
+	 * @param first Pool day of the first color in the schedule
+	 */
+	public void setTarget(Schedule schedule, int first) {
+		target = schedule;
+		base = first;
+	}
+
+	/**
+	 * Put a relationship on the day of a color
+	 *
+	 * @param e Edge id
+	 * @param color Color of the day
+	 */
+	private void place(int e, int color) {
+		while (dayEdges.size() <= color) {
+			dayEdges.add(new int[4]);
+			dayCount.add(0);
+		}
+		int[] ids = dayEdges.get(color);
+		int count = dayCount.get(color);
+		if (count == ids.length) {
+			ids = Arrays.copyOf(ids, ids.length * 2);
+			dayEdges.set(color, ids);
+		}
+		ids[count] = e;
+		position[e] = count;
+		scheduled[e] = color;
+		dayCount.set(color, count + 1);
+		if (target != null && color <= pooled) {
+			target.addMeetup(base + color - 1, engine.getFirst(e), engine.getSecond(e));
+		}
+	}
+
+	/**
+	 * Take a relationship off its day, moving the last meetup of the
+	 * day into its place
+	 *
+	 * @param e Edge id
+	 */
+	private void unplace(int e) {
+		int color = scheduled[e];
+		if (color == 0) {
+			return;
+		}
+		int[] ids = dayEdges.get(color);
+		int last = dayCount.get(color) - 1;
+		int moved = ids[last];
+		ids[position[e]] = moved;
+		position[moved] = position[e];
+		dayCount.set(color, last);
+		scheduled[e] = 0;
+		if (target != null && color <= pooled) {
+			target.removeMeetup(base + color - 1, position[moved]);
+		}
+	}
+
+	/**
+	 * Order the days of every color in use
+	 */
+	private void order() {
+		HashMap<Integer, Integer> maximum = new HashMap<Integer, Integer>();
+		for (int color = 1; color < dayEdges.size(); color++) {
+			int[] ids = dayEdges.get(color);
+			for (int i = 0; i < dayCount.get(color); i++) {
+				maximum.put(color, Math.max(maximum.getOrDefault(color, 0), weights[ids[i]]));
+			}
+		}
+		ordered = new boolean[engine.getPalette() + 1];
+		order = Layer.orderDays(maximum);
+		for (int color : order) {
+			ordered[color] = true;
+		}
+	}
+}
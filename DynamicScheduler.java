@@ -0,0 +1,298 @@
+/**
+ * Purpose	Scheduler for a network which changes a few
+ * 		relationships at a time
+ * Status	Finished
+ * Last Update	10/17/26
+ * Submitted	N/A
+ * Comment	All code is my own original work
+ *
+ * Relationships are split into the same weight bands as
+ * Network.optimizedSchedule, with one DynamicLayer per band. A change
+ * only touches the layer of its band, and each layer patches its pool
+ * days in the interleaved schedule in place.
+ * The bands depend on the maximum weight and the maximum degree; when
+ * a change moves either far enough to change the bands, everything is
+ * rebuilt, which is the only case where a change costs more than the
+ * degree of the individuals involved.
+ *
+ * The order of days in a layer is kept as relationships change, so
+ * after many changes the schedule can carry empty days or days repeated
+ * for a weight which is gone. Call rebuild to order everything again.
+ *
+ * @author	Alaina Iris
+ * @version	2026.10.17
+ */
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+
+public class DynamicScheduler {
+	private int size;
+	private String[] names;
+	// Keyed by lower individual in the high 32 bits, higher in the low
+	private HashMap<Long, Integer> weights;
+	private HashMap<Long, Integer> ids;
+	private NetworkStats stats;
+	// Band structure the layers were built for
+	private int max;
+	private int layerCount;
+	private ArrayList<DynamicLayer> layers;
+	private ArrayList<ArrayList<Integer>> layerOrders;
+	private Schedule schedule;
+
+	/**
+	 * Create a scheduler starting from a network. The first schedule
+	 * is the same as the network's optimized schedule.
+	 *
+	 * @param network Starting network
+	 */
+	public DynamicScheduler(Network network) {
+		Graph graph = network.getGraph();
+		size = graph.size();
+		names = network.getNames();
+		weights = new HashMap<Long, Integer>();
+		for (int e = 0; e < graph.getEdgeCount(); e++) {
+			weights.put(key(graph.getFirst(e), graph.getSecond(e)), graph.getWeight(e));
+		}
+		stats = new NetworkStats(graph);
+		build(graph);
+	}
+
+	/**
+	 * Add a relationship
+	 *
+	 * @param a First individual
+	 * @param b Second individual
+	 * @param w Weight of the relationship, above 0
+	 */
+	public void addRelationship(int a, int b, int w) {
+		long k = check(a, b);
+		if (w <= 0) {
+			throw new IllegalArgumentException("Relationship " + a + " - " + b + " needs a weight above 0");
+		}
+		if (weights.containsKey(k)) {
+			throw new IllegalArgumentException("Relationship " + a + " - " + b + " already exists");
+		}
+		weights.put(k, w);
+		stats.add(a, b, w);
+		if (!rebuildIfNeeded()) {
+			ids.put(k, layers.get(band(w)).add(a, b, w));
+			refresh();
+		}
+	}
+
+	/**
+	 * Remove a relationship
+	 *
+	 * @param a First individual
+	 * @param b Second individual
+	 */
+	public void removeRelationship(int a, int b) {
+		long k = check(a, b);
+		Integer w = weights.remove(k);
+		if (w == null) {
+			throw new IllegalArgumentException("Relationship " + a + " - " + b + " does not exist");
+		}
+		stats.remove(a, b, w);
+		int id = ids.remove(k);
+		if (!rebuildIfNeeded()) {
+			layers.get(band(w)).remove(id);
+		}
+	}
+
+	/**
+	 * Change the weight of a relationship. A weight of 0 or less
+	 * removes it.
+	 *
+	 * @param a First individual
+	 * @param b Second individual
+	 * @param w New weight
+	 */
+	public void updateWeight(int a, int b, int w) {
+		long k = check(a, b);
+		Integer old = weights.get(k);
+		if (old == null) {
+			throw new IllegalArgumentException("Relationship " + a + " - " + b + " does not exist");
+		}
+		if (w <= 0) {
+			removeRelationship(a, b);
+			return;
+		}
+		int oldBand = band(old);
+		weights.put(k, w);
+		stats.update(a, b, old, w);
+		if (rebuildIfNeeded()) {
+			return;
+		}
+		int newBand = band(w);
+		if (newBand == oldBand) {
+			layers.get(newBand).setWeight(ids.get(k), w);
+		} else {
+			layers.get(oldBand).remove(ids.get(k));
+			ids.put(k, layers.get(newBand).add(a, b, w));
+			refresh();
+		}
+	}
+
+	/**
+	 * Get the weight of a relationship
+	 *
+	 * @param a First individual
+	 * @param b Second individual
+	 * @return Weight, 0 if they have no relationship
+	 */
+	public int getWeight(int a, int b) {
+		return weights.getOrDefault(check(a, b), 0);
+	}
+
+	/**
+	 * Get the current schedule. It is patched in place by later
+	 * changes, unless a change needs the layers to be interleaved
+	 * again, in which case a new schedule is made.
+	 *
+	 * @return Current schedule
+	 */
+	public Schedule getSchedule() {
+		return schedule;
+	}
+
+	/**
+	 * Get the profile of the current network, kept up to date with
+	 * every change
+	 *
+	 * @return Network profile
+	 */
+	public NetworkStats getStats() {
+		return stats;
+	}
+
+	/**
+	 * Get the current network
+	 *
+	 * @return Network of the current relationships
+	 */
+	public Network getNetwork() {
+		return new Network(graph(), names);
+	}
+
+	/**
+	 * Color and order every layer again from scratch
+	 */
+	public void rebuild() {
+		build(graph());
+	}
+
+	/**
+	 * Build the layers and schedule for a graph of the current
+	 * relationships
+	 *
+	 * @param graph Current relationships
+	 */
+	private void build(Graph graph) {
+		max = stats.getMaxWeight();
+		layerCount = stats.getLayers();
+		layers = new ArrayList<DynamicLayer>();
+		ids = new HashMap<Long, Integer>();
+		int top = max;
+		for (int i = 0; i <= layerCount; i++) {
+			int bottom = i < layerCount ? top / 2 : 0;
+			Graph band = graph.band(bottom, top);
+			layers.add(new DynamicLayer(band));
+			for (int e = 0; e < band.getEdgeCount(); e++) {
+				ids.put(key(band.getFirst(e), band.getSecond(e)), e);
+			}
+			top /= 2;
+		}
+		refresh();
+	}
+
+	/**
+	 * Rebuild if the maximum weight or layer count changed
+	 *
+	 * @return True if everything was rebuilt
+	 */
+	private boolean rebuildIfNeeded() {
+		if (stats.getMaxWeight() == max && stats.getLayers() == layerCount) {
+			return false;
+		}
+		rebuild();
+		return true;
+	}
+
+	/**
+	 * Interleave the layers again if any layer made a new order
+	 */
+	private void refresh() {
+		boolean changed = layerOrders == null || layerOrders.size() != layers.size();
+		for (int i = 0; !changed && i < layers.size(); i++) {
+			changed = layerOrders.get(i) != layers.get(i).getOrder();
+		}
+		if (changed) {
+			layerOrders = new ArrayList<ArrayList<Integer>>();
+			ArrayList<Schedule> layerSchedules = new ArrayList<Schedule>();
+			for (DynamicLayer layer : layers) {
+				layerOrders.add(layer.getOrder());
+				layerSchedules.add(layer.getSchedule());
+			}
+			schedule = Schedule.interleave(layerSchedules, names);
+			int base = 0;
+			for (int i = 0; i < layers.size(); i++) {
+				layers.get(i).setTarget(schedule, base);
+				base += layerSchedules.get(i).getPoolSize();
+			}
+		}
+	}
+
+	/**
+	 * Find the band of a weight, as (max >> (k + 1), max >> k] for
+	 * k below the layer count, with the final band taking the rest
+	 *
+	 * @param w Weight
+	 * @return Layer index
+	 */
+	private int band(int w) {
+		return Bands.band(w, max, layerCount);
+	}
+
+	/**
+	 * Check two individuals and get the key of their relationship
+	 *
+	 * @param a First individual
+	 * @param b Second individual
+	 * @return Relationship key
+	 */
+	private long check(int a, int b) {
+		if (a < 0 || a >= size || b < 0 || b >= size) {
+			throw new IllegalArgumentException("Relationship " + a + " - " + b + " is out of range");
+		}
+		if (a == b) {
+			throw new IllegalArgumentException("Individual " + a + " cannot have a relationship with themselves");
+		}
+		return key(a, b);
+	}
+
+	/**
+	 * Get the key of a relationship
+	 *
+	 * @param a First individual
+	 * @param b Second individual
+	 * @return Lower individual in the high 32 bits, higher in the low
+	 */
+	private static long key(int a, int b) {
+		return ((long) Math.min(a, b) << 32) | Math.max(a, b);
+	}
+
+	/**
+	 * Build a graph of the current relationships
+	 *
+	 * @return Graph of the relationships
+	 */
+	private Graph graph() {
+		EdgeBuffer edges = new EdgeBuffer();
+		for (Map.Entry<Long, Integer> entry : weights.entrySet()) {
+			edges.add((int) (entry.getKey() >>> 32), (int) (long) entry.getKey(), entry.getValue());
+		}
+		return edges.toGraph(size);
+	}
+}
@@ -0,0 +1,100 @@
+/**
+ * Purpose	Growable list of relationships, kept in primitive arrays
+ * Status	Finished
+ * Last Update	10/17/26
+ * Submitted	N/A
+ * Comment	All code is my own original work
+ *
+ * @author	Alaina Iris
+ * @version	2026.10.17
+ */
+
+import java.util.Arrays;
+
+public class EdgeBuffer {
+	private int[] first;
+	private int[] second;
+	private int[] weights;
+	private int count;
+
+	/**
+	 * Create an empty buffer
+	 */
+	public EdgeBuffer() {
+		first = new int[16];
+		second = new int[16];
+		weights = new int[16];
+	}
+
+	/**
+	 * Add a relationship
+	 *
+	 * @param a First individual
+	 * @param b Second individual
+	 * @param w Weight of the relationship
+	 */
+	public void add(int a, int b, int w) {
+		if (count == first.length) {
+			first = Arrays.copyOf(first, count * 2);
+			second = Arrays.copyOf(second, count * 2);
+			weights = Arrays.copyOf(weights, count * 2);
+		}
+		first[count] = a;
+		second[count] = b;
+		weights[count] = w;
+		count++;
+	}
+
+	/**
+	 * Add every relationship of another buffer
+	 *
+	 * @param other Buffer to add
+	 */
+	public void addAll(EdgeBuffer other) {
+		for (int i = 0; i < other.count; i++) {
+			add(other.first[i], other.second[i], other.weights[i]);
+		}
+	}
+
+	/**
+	 * Get the number of relationships
+	 *
+	 * @return Number of relationships
+	 */
+	public int size() {
+		return count;
+	}
+
+	/**
+	 * Get every relationship with a positive weight as the lower
+	 * individual in the high 32 bits and the higher in the low 32 bits
+	 *
+	 * @return Packed relationships, in buffer order
+	 */
+	public long[] pairKeys() {
+		int positive = 0;
+		for (int i = 0; i < count; i++) {
+			if (weights[i] > 0) {
+				positive++;
+			}
+		}
+		long[] keys = new long[positive];
+		positive = 0;
+		for (int i = 0; i < count; i++) {
+			if (weights[i] > 0) {
+				keys[positive++] = ((long) Math.min(first[i], second[i]) << 32) | Math.max(first[i], second[i]);
+			}
+		}
+		return keys;
+	}
+
+	/**
+	 * Build a graph of the relationships
+	 *
+	 * @param size Number of individuals
+	 * @return Graph of the relationships
+	 */
+	public Graph toGraph(int size) {
+		return new Graph(size, first, second, weights, count);
+	}
+}
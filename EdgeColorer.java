@@ -0,0 +1,31 @@
+/**
+ * Purpose	Strategy for coloring the edges of a layer
+ * Status	Finished
+ * Last Update	10/17/26
+ * Submitted	N/A
+ * Comment	All code is my own original work
+ *
+ * Every strategy gives each edge a color from 1 up, with no two edges
+ * of an individual sharing a color. Each color becomes a day, so fewer
+ * colors means a shorter schedule.
+ *
+ * @author	Alaina Iris
+ * @version	2026.10.17
+ */
+
+public interface EdgeColorer {
+	/**
+	 * Color every edge of a graph
+	 *
+	 * @param graph Relationships to color
+	 * @return Color of every edge, from 1
+	 */
+	int[] color(Graph graph);
+
+	/**
+	 * Get the name of the strategy for reports
+	 *
+	 * @return Strategy name
+	 */
+	String getName();
+}
@@ -0,0 +1,154 @@
+/**
+ * Purpose	Streaming reader for the sparse edge list network format
+ * Status	Finished
+ * Last Update	10/17/26
+ * Submitted	N/A
+ * Comment	All code is my own original work
+ *
+ * Each line holds one relationship as nameA,nameB,weight. An optional
+ * first line starting with # lists names in the order they should be
+ * numbered, which also allows individuals with no relationships. Other
+ * names are numbered as they are first seen. Blank lines are skipped.
+ * The file is read one line at a time, so memory grows with the number
+ * of relationships rather than the square of the number of people.
+ *
+ * @author	Alaina Iris
+ * @version	2026.10.17
+ */
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+
+public class EdgeListReader {
+	private HashMap<String, Integer> index;
+	private ArrayList<String> names;
+	private EdgeBuffer edges;
+
+	/**
+	 * Create an empty reader
+	 */
+	public EdgeListReader() {
+		index = new HashMap<String, Integer>();
+		names = new ArrayList<String>();
+		edges = new EdgeBuffer();
+	}
+
+	/**
+	 * Read a network from an edge list file
+	 *
+	 * @param file File to read
+	 * @return Network of the file
+	 * @throws IOException If the file cannot be read
+	 */
+	public static Network read(Path file) throws IOException {
+		try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+			return new EdgeListReader().read(reader);
+		}
+	}
+
+	/**
+	 * Read a network from an edge list
+	 *
+	 * @param reader Source of the edge list
+	 * @return Network of the edge list
+	 * @throws IOException If the source cannot be read
+	 */
+	public Network read(Reader reader) throws IOException {
+		BufferedReader in = new BufferedReader(reader);
+		String line = in.readLine();
+		int lineNumber = 1;
+		if (line != null && line.startsWith("#")) {
+			for (String name : line.substring(1).split(",")) {
+				if (!name.trim().isEmpty()) {
+					intern(name.trim());
+				}
+			}
+			line = in.readLine();
+			lineNumber++;
+		}
+		while (line != null) {
+			if (!line.trim().isEmpty()) {
+				readLine(line, lineNumber);
+			}
+			line = in.readLine();
+			lineNumber++;
+		}
+		String[] people = names.toArray(new String[0]);
+		Graph graph;
+		try {
+			graph = edges.toGraph(people.length);
+		} catch (IllegalArgumentException e) {
+			throw duplicate(people);
+		}
+		return new Network(graph, people);
+	}
+
+	/**
+	 * Read a single relationship
+	 *
+	 * @param line Line holding the relationship
+	 * @param lineNumber Line number for errors
+	 */
+	private void readLine(String line, int lineNumber) {
+		String[] fields = line.split(",");
+		if (fields.length != 3) {
+			throw new IllegalArgumentException("Please ensure each line is nameA,nameB,weight! Line " +
+					lineNumber + " has " + fields.length + " values");
+		}
+		int weight;
+		try {
+			weight = Integer.parseInt(fields[2].trim());
+		} catch (NumberFormatException e) {
+			throw new IllegalArgumentException("Please ensure weights are numbers! Line " +
+					lineNumber + " has weight " + fields[2].trim());
+		}
+		int a = intern(fields[0].trim());
+		int b = intern(fields[1].trim());
+		if (a == b) {
+			throw new IllegalArgumentException("Line " + lineNumber + " relates " +
+					fields[0].trim() + " to themselves");
+		}
+		edges.add(a, b, weight);
+	}
+
+	/**
+	 * Get the number of a name, numbering it if it is new
+	 *
+	 * @param name Name to look up
+	 * @return Number of the individual
+	 */
+	private int intern(String name) {
+		Integer i = index.get(name);
+		if (i == null) {
+			i = names.size();
+			index.put(name, i);
+			names.add(name);
+		}
+		return i;
+	}
+
+	/**
+	 * Build the error for a relationship which was listed twice
+	 *
+	 * @param people Names of individuals
+	 * @return Error naming the first repeated relationship
+	 */
+	private IllegalArgumentException duplicate(String[] people) {
+		long[] keys = edges.pairKeys();
+		Arrays.sort(keys);
+		for (int i = 1; i < keys.length; i++) {
+			if (keys[i] == keys[i - 1]) {
+				return new IllegalArgumentException("Please list each relationship once! " +
+						people[(int) (keys[i] >>> 32)] + " and " + people[(int) keys[i]] + " are listed twice");
+			}
+		}
+		return new IllegalArgumentException("Please list each relationship once!");
+	}
+}
@@ -1,7 +1,7 @@
 /**
  * Purpose	Fan structure for graph coloring
  * Status	Finished
- * Last Update	01/04/25
+ * Last Update	10/17/26
  * Submitted	N/A
  * Comment	All code is my own original work
  * Comment	Solution credit goes to Jayadev Misra and David Gries
@@ -10,13 +10,14 @@
  * Readings	https://www.cs.utexas.edu/~misra/psp.dir/vizing.pdf
  *
  * @author	Alaina Iris
- * @version	2025.01.04
+ * @version	2026.10.17
  */
 
 import java.util.ArrayList;
 
 public class Fan {
-	private int[][] colorMap;
+	private Graph graph;
+	private int[] colorMap;
 	private int root;
 	private int c;
 	private int d;
@@ -25,11 +26,13 @@ public class Fan {
 	/**
 	 * Generate the fan from given parameters.
 	 *
-	 * @param  colorMap What our color map is. Mutable
+	 * @param  graph Relationships being colored
+	 * @param  colorMap Color of every relationship. Mutable
 	 * @param  root The root of the connection (first edge point)
 	 * @param  firstChild The first child node of the root (second edge point)
 	 */
-	public Fan(int[][] colorMap, int root, int firstChild) {
+	public Fan(Graph graph, int[] colorMap, int root, int firstChild) {
+		this.graph = graph;
 		this.colorMap = colorMap;
 		this.root = root;
 		children = new ArrayList<Integer>();
@@ -70,11 +73,8 @@ public class Fan {
 		} while (pos >= 0);
 		
 		for (int i = 0; i < path.size() - 1; i++) {
-			int v1 = path.get(i);
-			int v2 = path.get(i + 1);
-			int val = colorMap[v1][v2] == c ? d : c;
-			colorMap[v1][v2] = val;
-			colorMap[v2][v1] = val;
+			int edge = graph.findEdge(path.get(i), path.get(i + 1));
+			colorMap[edge] = colorMap[edge] == c ? d : c;
 		}
 		reverseIndex();
 	}
@@ -88,7 +88,7 @@ public class Fan {
 		int reverseIndex = findReverseCount();
 		int[] colors = new int[reverseIndex];
 		for (int i = 0; i < colors.length; i++) {
-			colors[i] = colorMap[root][children.get((i + 1) % reverseIndex)];
+			colors[i] = colorTo(children.get((i + 1) % reverseIndex));
 		}
 		for (int i = colors.length - 1; i >= 0; i--) {
 			if (colors[i] == -1) {
@@ -97,8 +97,7 @@ public class Fan {
 			}
 		}
 		for (int i = 0; i < colors.length; i++) {
-			colorMap[root][children.get(i)] = colors[i];
-			colorMap[children.get(i)][root] = colors[i];
+			colorMap[graph.findEdge(root, children.get(i))] = colors[i];
 		}
 	}
 
@@ -112,12 +111,22 @@ public class Fan {
 		int count = 1; // Guaranteed that first child can be d
 		while ( count < children.size() &&
 			!colorsFrom(children.get(count - 1)).contains(
-			colorMap[root][children.get(count)])) {
+			colorTo(children.get(count)))) {
 			count++;
 		}
 		return count;
 	}
 
+	/**
+	 * Get the color of the edge between the root and a child
+	 *
+	 * @param  child  Child of the root
+	 * @return Color of the edge
+	 */
+	private int colorTo(int child) {
+		return colorMap[graph.findEdge(root, child)];
+	}
+
 	/**
 	 * Find what the edge of a certain color connects a given node to
 	 *
@@ -126,9 +135,9 @@ public class Fan {
 	 * @return match  Defaults to -1 if none found
 	 */
 	private int findConnection(int color, int start) {
-		for (int i = 0; i < colorMap.length; i++) {
-			if (colorMap[start][i] == color) {
-				return i;
+		for (int slot = graph.start(start); slot < graph.end(start); slot++) {
+			if (colorMap[graph.edgeAt(slot)] == color) {
+				return graph.neighbor(slot);
 			}
 		}
 		return -1;
@@ -149,8 +158,8 @@ public class Fan {
 			for (int i : rootConnections) {
 				ArrayList<Integer> usedLast = colorsFrom(last);
 				if (!order.contains(i) &&
-				    colorMap[root][i] > 0 &&
-				    !usedLast.contains(colorMap[root][i])) {
+				    colorTo(i) > 0 &&
+				    !usedLast.contains(colorTo(i))) {
 				
 					maximal = false;
 				    	last = i;
@@ -209,8 +218,8 @@ public class Fan {
 	 */
 	private ArrayList<Integer> colorsFrom(int i) {
 		ArrayList<Integer> colors = new ArrayList<Integer>();
-		for (int j = 0; j < colorMap.length; j++) {
-			int color = colorMap[i][j];
+		for (int slot = graph.start(i); slot < graph.end(i); slot++) {
+			int color = colorMap[graph.edgeAt(slot)];
 			if (color > 0 & !colors.contains(color)) {
 				colors.add(color);
 			}
@@ -226,10 +235,10 @@ public class Fan {
 	 */
 	private ArrayList<Integer> getConnectionsTo(int i) {
 		ArrayList<Integer> connections = new ArrayList<Integer>();
-		for (int j = 0; j < colorMap.length; j++) {
-			int color = colorMap[i][j];
+		for (int slot = graph.start(i); slot < graph.end(i); slot++) {
+			int color = colorMap[graph.edgeAt(slot)];
 			if (color > 0) {
-				connections.add(j);
+				connections.add(graph.neighbor(slot));
 			}
 		}
 		return connections;
@@ -241,13 +250,6 @@ public class Fan {
 	 * @return pretty map
 	 */
 	public String toString() {
-                String str = "";
-                for (int[] arr : colorMap) {
-                        for (int val : arr) {
-                                str = str + val + "  ";
-                        }
-                        str = str + "\n";
-                }
-                return str;
+		return ScheduleWriter.matrix(graph, colorMap);
 	}
 }
@@ -0,0 +1,409 @@
+/**
+ * Purpose	Compressed sparse row (CSR) storage for a weighted,
+ * 		undirected relationship graph
+ * Status	Finished
+ * Last Update	10/17/26
+ * Submitted	N/A
+ * Comment	All code is my own original work
+ *
+ * @author	Alaina Iris
+ * @version	2026.10.17
+ */
+
+import java.util.Arrays;
+
+public class Graph {
+	private int size;
+	// Adjacency, one slot per (vertex, neighbor) pair
+	private int[] offsets;
+	private int[] neighbors;
+	private int[] weights;
+	private int[] slotEdges;
+	// Edge list, one entry per relationship with first < second,
+	// sorted the same way as an upper triangular matrix scan
+	private int[] first;
+	private int[] second;
+	private int[] edgeWeights;
+
+	/**
+	 * Create a graph from an unordered list of relationships.
+	 * Relationships with a weight of zero or less are ignored.
+	 *
+	 * @param size Number of individuals
+	 * @param a First individual of each relationship
+	 * @param b Second individual of each relationship
+	 * @param w Weight of each relationship
+	 * @param count Number of relationships in the arrays
+	 */
+	public Graph(int size, int[] a, int[] b, int[] w, int count) {
+		this.size = size;
+		int[] rowCount = new int[size + 1];
+		int edges = 0;
+		for (int i = 0; i < count; i++) {
+			if (a[i] < 0 || a[i] >= size || b[i] < 0 || b[i] >= size) {
+				throw new IllegalArgumentException("Relationship " + a[i] + " - " + b[i] + " is out of range");
+			}
+			if (a[i] == b[i]) {
+				throw new IllegalArgumentException("Individual " + a[i] + " cannot have a relationship with themselves");
+			}
+			if (w[i] > 0) {
+				rowCount[Math.min(a[i], b[i]) + 1]++;
+				edges++;
+			}
+		}
+		for (int i = 0; i < size; i++) {
+			rowCount[i + 1] += rowCount[i];
+		}
+		// Counting sort on the lower individual, then sort each row
+		// on (higher individual, input position)
+		long[] keys = new long[edges];
+		int[] next = Arrays.copyOf(rowCount, size);
+		for (int i = 0; i < count; i++) {
+			if (w[i] > 0) {
+				int hi = Math.max(a[i], b[i]);
+				keys[next[Math.min(a[i], b[i])]++] = ((long) hi << 32) | i;
+			}
+		}
+		first = new int[edges];
+		second = new int[edges];
+		edgeWeights = new int[edges];
+		for (int row = 0; row < size; row++) {
+			Arrays.sort(keys, rowCount[row], rowCount[row + 1]);
+			for (int k = rowCount[row]; k < rowCount[row + 1]; k++) {
+				int hi = (int) (keys[k] >>> 32);
+				if (k > rowCount[row] && hi == second[k - 1]) {
+					throw new IllegalArgumentException("Relationship " + row + " - " + hi + " is listed twice");
+				}
+				first[k] = row;
+				second[k] = hi;
+				edgeWeights[k] = w[(int) keys[k]];
+			}
+		}
+		buildAdjacency();
+	}
+
+	/**
+	 * Create a graph from an already sorted edge list
+	 *
+	 * @param size Number of individuals
+	 * @param first Lower individual of each relationship
+	 * @param second Higher individual of each relationship
+	 * @param edgeWeights Weight of each relationship
+	 */
+	private Graph(int size, int[] first, int[] second, int[] edgeWeights) {
+		this.size = size;
+		this.first = first;
+		this.second = second;
+		this.edgeWeights = edgeWeights;
+		buildAdjacency();
+	}
+
+	/**
+	 * Create a graph from an edge list which is already sorted the
+	 * way an upper triangular matrix scan would find it, skipping the
+	 * sort done by the public constructor
+	 *
+	 * @param size Number of individuals
+	 * @param first Lower individual of each relationship
+	 * @param second Higher individual of each relationship
+	 * @param weights Weight of each relationship, all positive
+	 * @return Graph of the relationships
+	 */
+	public static Graph fromSortedEdges(int size, int[] first, int[] second, int[] weights) {
+		for (int e = 0; e < first.length; e++) {
+			if (first[e] < 0 || first[e] >= second[e] || second[e] >= size || weights[e] <= 0) {
+				throw new IllegalArgumentException("Relationship " + first[e] + " - " + second[e] + " is not valid");
+			}
+			if (e > 0 && (first[e] < first[e - 1] || (first[e] == first[e - 1] && second[e] <= second[e - 1]))) {
+				throw new IllegalArgumentException("Relationship " + first[e] + " - " + second[e] + " is out of order");
+			}
+		}
+		return new Graph(size, first, second, weights);
+	}
+
+	/**
+	 * Create a graph from a square relationship matrix. The matrix is
+	 * read as an upper triangular matrix.
+	 *
+	 * @param matrix Relationship matrix
+	 * @return Graph of the matrix
+	 */
+	public static Graph fromMatrix(int[][] matrix) {
+		int len = matrix.length;
+		int edges = 0;
+		for (int i = 0; i < len - 1; i++) {
+			for (int j = i + 1; j < len; j++) {
+				if (matrix[i][j] > 0) {
+					edges++;
+				}
+			}
+		}
+		int[] first = new int[edges];
+		int[] second = new int[edges];
+		int[] weights = new int[edges];
+		int e = 0;
+		for (int i = 0; i < len - 1; i++) {
+			for (int j = i + 1; j < len; j++) {
+				if (matrix[i][j] > 0) {
+					first[e] = i;
+					second[e] = j;
+					weights[e] = matrix[i][j];
+					e++;
+				}
+			}
+		}
+		return new Graph(len, first, second, weights);
+	}
+
+	/**
+	 * Fill in the adjacency arrays from the sorted edge list. Since
+	 * edges are sorted, every adjacency row comes out sorted as well.
+	 */
+	private void buildAdjacency() {
+		int edges = first.length;
+		offsets = new int[size + 1];
+		for (int e = 0; e < edges; e++) {
+			offsets[first[e] + 1]++;
+			offsets[second[e] + 1]++;
+		}
+		for (int i = 0; i < size; i++) {
+			offsets[i + 1] += offsets[i];
+		}
+		neighbors = new int[2 * edges];
+		weights = new int[2 * edges];
+		slotEdges = new int[2 * edges];
+		int[] next = Arrays.copyOf(offsets, size);
+		for (int e = 0; e < edges; e++) {
+			int u = first[e];
+			int v = second[e];
+			int slot = next[u]++;
+			neighbors[slot] = v;
+			weights[slot] = edgeWeights[e];
+			slotEdges[slot] = e;
+			slot = next[v]++;
+			neighbors[slot] = u;
+			weights[slot] = edgeWeights[e];
+			slotEdges[slot] = e;
+		}
+	}
+
+	/**
+	 * Get a graph holding only the relationships with a weight
+	 * in (min, max]
+	 *
+	 * @param min Exclusive lower weight
+	 * @param max Inclusive upper weight
+	 * @return Graph over the same individuals
+	 */
+	public Graph band(int min, int max) {
+		int count = 0;
+		for (int e = 0; e < edgeWeights.length; e++) {
+			if (edgeWeights[e] > min && edgeWeights[e] <= max) {
+				count++;
+			}
+		}
+		int[] bandFirst = new int[count];
+		int[] bandSecond = new int[count];
+		int[] bandWeights = new int[count];
+		int k = 0;
+		for (int e = 0; e < edgeWeights.length; e++) {
+			if (edgeWeights[e] > min && edgeWeights[e] <= max) {
+				bandFirst[k] = first[e];
+				bandSecond[k] = second[e];
+				bandWeights[k] = edgeWeights[e];
+				k++;
+			}
+		}
+		return new Graph(size, bandFirst, bandSecond, bandWeights);
+	}
+
+	/**
+	 * Get a graph of some relationships over only the individuals in
+	 * them. Individuals keep their order, so local id i is the i-th
+	 * lowest individual in the relationships, and edge i of the result
+	 * is edges[i]. When the relationships are far fewer than the
+	 * individuals, the individuals are found by sorting, so the work
+	 * depends on the relationships, not on the size of the whole graph.
+	 *
+	 * @param edges Edges to keep, in increasing order
+	 * @return Graph of the relationships
+	 */
+	public Graph subgraph(int[] edges) {
+		int count = edges.length;
+		int[] subFirst = new int[count];
+		int[] subSecond = new int[count];
+		int[] subWeights = new int[count];
+		int members;
+		if (32L * count >= size) {
+			// A table over every individual is cheaper than sorting
+			// unless the relationships are far fewer than individuals
+			int[] local = new int[size];
+			for (int e : edges) {
+				local[first[e]] = 1;
+				local[second[e]] = 1;
+			}
+			members = 0;
+			for (int v = 0; v < size; v++) {
+				if (local[v] != 0) {
+					local[v] = members++;
+				}
+			}
+			for (int i = 0; i < count; i++) {
+				subFirst[i] = local[first[edges[i]]];
+				subSecond[i] = local[second[edges[i]]];
+				subWeights[i] = edgeWeights[edges[i]];
+			}
+		} else {
+			int[] ends = new int[2 * count];
+			for (int i = 0; i < count; i++) {
+				ends[2 * i] = first[edges[i]];
+				ends[2 * i + 1] = second[edges[i]];
+			}
+			Arrays.sort(ends);
+			members = 0;
+			for (int i = 0; i < ends.length; i++) {
+				if (i == 0 || ends[i] != ends[i - 1]) {
+					ends[members++] = ends[i];
+				}
+			}
+			for (int i = 0; i < count; i++) {
+				subFirst[i] = Arrays.binarySearch(ends, 0, members, first[edges[i]]);
+				subSecond[i] = Arrays.binarySearch(ends, 0, members, second[edges[i]]);
+				subWeights[i] = edgeWeights[edges[i]];
+			}
+		}
+		return new Graph(members, subFirst, subSecond, subWeights);
+	}
+
+	/**
+	 * Get the number of individuals
+	 *
+	 * @return Number of individuals
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Get the number of relationships
+	 *
+	 * @return Number of relationships
+	 */
+	public int getEdgeCount() {
+		return first.length;
+	}
+
+	/**
+	 * Get the number of relationships an individual has
+	 *
+	 * @param v Individual
+	 * @return Degree of the individual
+	 */
+	public int degree(int v) {
+		return offsets[v + 1] - offsets[v];
+	}
+
+	/**
+	 * Get the first adjacency slot of an individual
+	 *
+	 * @param v Individual
+	 * @return First slot
+	 */
+	public int start(int v) {
+		return offsets[v];
+	}
+
+	/**
+	 * Get the slot after the last adjacency slot of an individual
+	 *
+	 * @param v Individual
+	 * @return End slot (exclusive)
+	 */
+	public int end(int v) {
+		return offsets[v + 1];
+	}
+
+	/**
+	 * Get the neighbor stored in an adjacency slot
+	 *
+	 * @param slot Adjacency slot
+	 * @return Neighbor
+	 */
+	public int neighbor(int slot) {
+		return neighbors[slot];
+	}
+
+	/**
+	 * Get the weight stored in an adjacency slot
+	 *
+	 * @param slot Adjacency slot
+	 * @return Relationship weight
+	 */
+	public int weightAt(int slot) {
+		return weights[slot];
+	}
+
+	/**
+	 * Get the relationship stored in an adjacency slot
+	 *
+	 * @param slot Adjacency slot
+	 * @return Edge index
+	 */
+	public int edgeAt(int slot) {
+		return slotEdges[slot];
+	}
+
+	/**
+	 * Get the lower individual of a relationship
+	 *
+	 * @param e Edge index
+	 * @return Lower individual
+	 */
+	public int getFirst(int e) {
+		return first[e];
+	}
+
+	/**
+	 * Get the higher individual of a relationship
+	 *
+	 * @param e Edge index
+	 * @return Higher individual
+	 */
+	public int getSecond(int e) {
+		return second[e];
+	}
+
+	/**
+	 * Get the weight of a relationship
+	 *
+	 * @param e Edge index
+	 * @return Relationship weight
+	 */
+	public int getWeight(int e) {
+		return edgeWeights[e];
+	}
+
+	/**
+	 * Find the relationship between two individuals
+	 *
+	 * @param u First individual
+	 * @param v Second individual
+	 * @return Edge index, -1 if they have no relationship
+	 */
+	public int findEdge(int u, int v) {
+		int slot = Arrays.binarySearch(neighbors, offsets[u], offsets[u + 1], v);
+		return slot >= 0 ? slotEdges[slot] : -1;
+	}
+
+	/**
+	 * Get the weight between two individuals
+	 *
+	 * @param u First individual
+	 * @param v Second individual
+	 * @return Relationship weight, 0 if they have no relationship
+	 */
+	public int getWeight(int u, int v) {
+		int e = findEdge(u, v);
+		return e >= 0 ? edgeWeights[e] : 0;
+	}
+}
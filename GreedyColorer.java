@@ -0,0 +1,62 @@
+/**
+ * Purpose	Greedy edge coloring for sparse layers
+ * Status	Finished
+ * Last Update	10/17/26
+ * Submitted	N/A
+ * Comment	All code is my own original work
+ *
+ * Each edge takes the lowest color free on both of its ends, and no
+ * edge is ever recolored. An edge u - v never needs more than
+ * deg(u) + deg(v) - 1 colors, which is at most Δ+1 whenever no two
+ * individuals with many relationships know each other, but can reach
+ * 2Δ-1 on dense layers.
+ *
+ * @author	Alaina Iris
+ * @version	2026.10.17
+ */
+
+public class GreedyColorer implements EdgeColorer {
+	/**
+	 * Color every edge of a graph
+	 *
+	 * @param graph Relationships to color
+	 * @return Color of every edge, from 1
+	 */
+	public int[] color(Graph graph) {
+		int size = graph.size();
+		int max = 0;
+		for (int v = 0; v < size; v++) {
+			max = Math.max(max, graph.degree(v));
+		}
+		int words = (2 * max + 64) >>> 6;
+		long[] used = new long[size * words];
+		int[] colors = new int[graph.getEdgeCount()];
+		for (int e = 0; e < colors.length; e++) {
+			int u = graph.getFirst(e) * words;
+			int v = graph.getSecond(e) * words;
+			for (int i = 0; i < words; i++) {
+				long bits = ~(used[u + i] | used[v + i]);
+				if (i == 0) {
+					bits &= ~1L;
+				}
+				if (bits != 0) {
+					int color = (i << 6) + Long.numberOfTrailingZeros(bits);
+					colors[e] = color;
+					used[u + i] |= 1L << color;
+					used[v + i] |= 1L << color;
+					break;
+				}
+			}
+		}
+		return colors;
+	}
+
+	/**
+	 * Get the name of the strategy for reports
+	 *
+	 * @return Strategy name
+	 */
+	public String getName() {
+		return "Greedy";
+	}
+}
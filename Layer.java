@@ -1,209 +1,160 @@
 /**
  * Purpose	Schedule for meetups
  * Status	Barely Started
- * Last Update	01/03/25
+ * Last Update	10/17/26
  * Submitted	N/A
  * Comment	All code is my own original work
  *
+ * A layer holds the ids of its relationships in the whole network's
+ * graph and one color per relationship. Coloring runs on a graph of
+ * only the individuals in the layer, so a layer costs memory and time
+ * for its own relationships rather than for the whole network.
+ *
  * @author	Alaina Iris
- * @version	2025.01.03
+ * @version	2026.10.17
  */
 
 import java.util.ArrayList;
 import java.util.HashMap;
 
 public class Layer {
-	private int[][] relation;
+	private Graph graph;
+	private int[] edges;
 	private Schedule days;
-	private int[][] colors;
-
-	/**
-	 * Create a new layer
-	 */
-	public Layer(int[][] relation) {
-		this.relation = relation;
-		colors = initializeColors();
-		makeMap();
-		days = optimizeSchedule();
-	}
+	private int[] colors;
 
 	/**
-	 * Get the schedule for this layer
+	 * Create a new layer of every relationship of a graph, coloring
+	 * each connected group with the strategy which suits it
 	 *
-	 * @return Layer schedule
+	 * @param relation Relationships within the layer
 	 */
-	public Schedule getSchedule() {
-		return days;
+	public Layer(Graph relation) {
+		this(relation, new ComponentColorer());
 	}
 
 	/**
-	 * Provide a matrix for the cells in the network matrix to color in
+	 * Create a new layer of every relationship of a graph with a given
+	 * coloring strategy
 	 *
-	 * @return Uncolored, unweighted graph
+	 * @param relation Relationships within the layer
+	 * @param colorer Edge coloring strategy
 	 */
-	private int[][] initializeColors() {
-		int[][] colors = new int[relation.length][relation.length];
-		for (int i = 0; i < relation.length - 1; i++) {
-			for (int j = 0; j < relation.length; j++) {
-				if (relation[i][j] > 0) {
-					colors[i][j] = -1;
-					colors[j][i] = -1;
-				}
-			}
-		}
-		return colors;
-	}
-
-	/**
-	 * Create the edge-coloring of the network
-	 */
-	private void makeMap() {
-		ArrayList<Integer[]> edges = getEdges();
-		int i = 0;
-		while (!edges.isEmpty()) {
-			Integer[] edge = edges.get(0);
-			Fan f = new Fan(colors, edge[0], edge[1]);
-			f.invertCDPath();
-			edges.remove(0);
-
-		}
+	public Layer(Graph relation, EdgeColorer colorer) {
+		this(relation, all(relation), colorer);
 	}
 
 	/**
-	 * Get a list of relationships an individual has
+	 * Create a new layer of some relationships of a graph, coloring
+	 * each connected group with the strategy which suits it
 	 *
-	 * @param i Individual to find relationships of
-	 * @return List of relationships for individual
+	 * @param graph Relationships of the whole network
+	 * @param edges Edges within the layer, in increasing order
 	 */
-	private ArrayList<Integer> getAdjacent(int i) {
-		ArrayList<Integer> adj = new ArrayList<Integer>();
-		for (int j = 0; j < relation.length; j++) {
-			if (relation[i][j] > 0) {
-				adj.add(j);
-			}
-		}
-		return adj;
+	public Layer(Graph graph, int[] edges) {
+		this(graph, edges, new ComponentColorer());
 	}
 
 	/**
-	 * Get a list of all relationships
+	 * Create a new layer of some relationships of a graph with a given
+	 * coloring strategy
 	 *
-	 * @return List of relationships
+	 * @param graph Relationships of the whole network
+	 * @param edges Edges within the layer, in increasing order
+	 * @param colorer Edge coloring strategy
 	 */
-	private ArrayList<Integer[]> getEdges() {
-		ArrayList<Integer[]> edges = new ArrayList<Integer[]>();
-		for (int i = 0; i < relation.length - 1; i++) {
-			for (int j = i + 1; j < relation.length; j++) {
-				if (relation[i][j] > 0) {
-					edges.add(new Integer[] {i, j});
-				}
-			}
-		}
-		return edges;
+	public Layer(Graph graph, int[] edges, EdgeColorer colorer) {
+		this.graph = graph;
+		this.edges = edges;
+		PhaseEvent timer = Metrics.begin(Metrics.COLOR);
+		colors = colorer.color(graph.subgraph(edges));
+		Metrics.end(timer);
+		timer = Metrics.begin(Metrics.ORDER);
+		days = optimizeSchedule();
+		Metrics.end(timer);
 	}
 
 	/**
-	 * Get the days mapped to the maximum weight of a relationship on that day
+	 * Get the schedule for this layer
 	 *
-	 * @return List of days mapped with maximum strain
+	 * @return Layer schedule
 	 */
-	private HashMap<Integer, Integer> getDays() {
-		HashMap<Integer, Integer> map = new HashMap<Integer, Integer>();
-		for (int i = 0; i < relation.length - 1; i++) {
-			for (int j = i + 1; j < relation.length; j++) {
-				if (colors[i][j] != 0) {
-					int max;
-					Integer val = map.get(colors[i][j]);
-					if (val == null) {
-						max = 0;
-					} else {
-						max = val;
-					}
-					if (max < relation[i][j]) {
-						map.put(colors[i][j], relation[i][j]);
-					}
-				}
-			}
-		}
-		return map;
+	public Schedule getSchedule() {
+		return days;
 	}
 
 	/**
-	 * Optimize the schedule to minimize strain
+	 * Optimize the schedule to minimize strain. One pass over the
+	 * relationships counts each day and finds its heaviest
+	 * relationship, and a second fills the days.
 	 *
 	 * @return optimized schedule with minimized strain
 	 */
 	private Schedule optimizeSchedule() {
-		HashMap<Integer, Integer> days = getDays();
-		HashMap<Integer, Integer> waits = new HashMap<Integer, Integer>();
-		ArrayList<Integer> order = new ArrayList<Integer>();
-		boolean minimum = false;
-		for (Integer i : days.keySet()) {
-			order.add(i);
+		int palette = 0;
+		for (int color : colors) {
+			palette = Math.max(palette, color);
 		}
-		while (!minimum) {
-			int[] maximumWait = getMaximumWait(order, days);
-			// Attempt reduction
-			if (maximumWait[3] - maximumWait[2] <= 2) {
-				minimum = true;
-			} else {
-				int added = (maximumWait[2] + maximumWait[3] + 1) / 2 % order.size();
-				order.add(added, maximumWait[1]);
-				if (getMaximumWait(order, days)[0] > maximumWait[0]) {
-					minimum = true;
-					order.remove(added);
-				}
+		int[] counts = new int[palette + 1];
+		int[] maximum = new int[palette + 1];
+		for (int i = 0; i < colors.length; i++) {
+			counts[colors[i]]++;
+			maximum[colors[i]] = Math.max(maximum[colors[i]], graph.getWeight(edges[i]));
+		}
+		// One pool day per color in use, filled in edge order
+		int used = 0;
+		for (int color = 1; color <= palette; color++) {
+			if (counts[color] > 0) {
+				used++;
 			}
 		}
+		int[] dayColors = new int[used];
+		int[] dayWeights = new int[used];
 		Schedule schedule = new Schedule();
+		int[] pool = new int[palette + 1];
+		int d = 0;
+		for (int color = 1; color <= palette; color++) {
+			pool[color] = schedule.addPoolDay(counts[color]);
+			if (counts[color] > 0) {
+				dayColors[d] = color;
+				dayWeights[d] = maximum[color];
+				d++;
+			}
+		}
+		for (int i = 0; i < colors.length; i++) {
+			schedule.addMeetup(pool[colors[i]], graph.getFirst(edges[i]), graph.getSecond(edges[i]));
+		}
+		ArrayList<Integer> order = new DayOrder(dayColors, dayWeights).optimize();
 		for (int i : order) {
-			schedule.add(getDay(i));
+			schedule.addDay(pool[i]);
 		}
+		Metrics.layer(colors.length, used, order.size() - used);
 		return schedule;
 	}
 
 	/**
-	 * Get the meetups in a day
+	 * Order days to minimize strain, repeating heavy days between
+	 * their longest waits
 	 *
-	 * @param color The color of the day (from edge-coloring)
-	 * @return List of meetups of the day
+	 * @param days Map of days and their maximum strains
+	 * @return Order of days
 	 */
-	private ArrayList<Integer[]> getDay(int color) {
-		ArrayList<Integer[]> meetups = new ArrayList<Integer[]>();
-		for (int i = 0; i < colors.length - 1; i++) {
-			for (int j = i + 1; j < colors.length; j++) {
-				if (colors[i][j] == color) {
-					meetups.add(new Integer[] {i, j});
-				}
-			}
-		}
-		return meetups;
+	public static ArrayList<Integer> orderDays(HashMap<Integer, Integer> days) {
+		return new DayOrder(days).optimize();
 	}
 
 	/**
-	 * Get maximum strain, start index, and end index
+	 * Get every edge of a graph
 	 *
-	 * @param order Order of days
-	 * @param days Map of days and their maximum strains
-	 * @return When the occurrance of maximum strain happens in the order as [weight, day, start, end]
+	 * @param relation Graph of the layer
+	 * @return Edges 0 to the edge count
 	 */
-	private int[] getMaximumWait(ArrayList<Integer> order, HashMap<Integer, Integer> days) {
-		int[] maximum = new int[4]; // weight, day, start, end
-		for (int i = 0; i < order.size(); i++) {
-			int day = order.get(i);
-			int end = i + 1;
-			while (order.get(end % order.size()) != day) {
-				end++;
-			}
-			int weight = days.get(day) * (end - i);
-			if (weight > maximum[0]) {
-				maximum[0] = weight;
-				maximum[1] = day;
-				maximum[2] = i;
-				maximum[3] = end;
-			}
+	private static int[] all(Graph relation) {
+		int[] edges = new int[relation.getEdgeCount()];
+		for (int e = 0; e < edges.length; e++) {
+			edges[e] = e;
 		}
-		return maximum;
+		return edges;
 	}
 
 	/**
@@ -212,13 +163,10 @@ public class Layer {
 	 * @return Pretty string
 	 */
 	public String toString() {
-		String str = "";
-		for (int[] arr : colors) {
-			for (int val : arr) {
-				str = str + val + "  ";
-			}
-			str = str + "\n";
+		int[] values = new int[graph.getEdgeCount()];
+		for (int i = 0; i < edges.length; i++) {
+			values[edges[i]] = colors[i];
 		}
-		return str;
+		return ScheduleWriter.matrix(graph, values);
 	}
 }
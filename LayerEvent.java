@@ -0,0 +1,41 @@
+/**
+ * Purpose	Flight Recorder event for one finished layer
+ * Status	Finished
+ * Last Update	10/17/26
+ * Submitted	N/A
+ * Comment	All code is my own original work
+ *
+ * @author	Alaina Iris
+ * @version	2026.10.17
+ */
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("network.Layer")
+@Label("Scheduler Layer")
+@Category("Network Scheduling")
+@Description("Size, colors and repeated days of one layer")
+public class LayerEvent extends jdk.jfr.Event {
+	@Label("Relationships")
+	private int relationships;
+	@Label("Colors")
+	private int colors;
+	@Label("Repeated Days")
+	private int insertions;
+
+	/**
+	 * Create an event for a layer
+	 *
+	 * @param relationships Relationships in the layer
+	 * @param colors Colors used by the layer
+	 * @param insertions Days repeated when ordering the layer
+	 */
+	public LayerEvent(int relationships, int colors, int insertions) {
+		this.relationships = relationships;
+		this.colors = colors;
+		this.insertions = insertions;
+	}
+}
@@ -0,0 +1,87 @@
+/**
+ * Purpose	Read-only random access to a file through memory maps
+ * Status	Finished
+ * Last Update	10/17/26
+ * Submitted	N/A
+ * Comment	All code is my own original work
+ *
+ * A single map cannot be larger than 2GB, so large files are mapped as
+ * several segments. Reads use absolute positions only, so one input
+ * can be shared between threads.
+ *
+ * @author	Alaina Iris
+ * @version	2026.10.17
+ */
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+public class MappedInput {
+	private static final int SHIFT = 30;
+	private static final int MASK = (1 << SHIFT) - 1;
+	private ByteBuffer[] segments;
+	private long size;
+
+	/**
+	 * Create an input over buffers of the segment size
+	 *
+	 * @param segments Buffers, all but the last exactly 1GB
+	 * @param size Total number of bytes
+	 */
+	private MappedInput(ByteBuffer[] segments, long size) {
+		this.segments = segments;
+		this.size = size;
+	}
+
+	/**
+	 * Map a file into memory
+	 *
+	 * @param file File to map
+	 * @return Mapped input
+	 * @throws IOException If the file cannot be read
+	 */
+	public static MappedInput open(Path file) throws IOException {
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+			long size = channel.size();
+			ByteBuffer[] segments = new ByteBuffer[(int) ((size + MASK) >>> SHIFT)];
+			for (int i = 0; i < segments.length; i++) {
+				long start = (long) i << SHIFT;
+				segments[i] = channel.map(FileChannel.MapMode.READ_ONLY, start, Math.min(size - start, 1L << SHIFT));
+			}
+			return new MappedInput(segments, size);
+		}
+	}
+
+	/**
+	 * Wrap bytes which are already in memory
+	 *
+	 * @param bytes Bytes to read
+	 * @param length Number of bytes used
+	 * @return Input over the bytes
+	 */
+	public static MappedInput wrap(byte[] bytes, int length) {
+		return new MappedInput(new ByteBuffer[] {ByteBuffer.wrap(bytes, 0, length)}, length);
+	}
+
+	/**
+	 * Get the byte at a position
+	 *
+	 * @param pos Position in the input
+	 * @return Byte at the position
+	 */
+	public byte get(long pos) {
+		return segments[(int) (pos >>> SHIFT)].get((int) (pos & MASK));
+	}
+
+	/**
+	 * Get the size of the input
+	 *
+	 * @return Number of bytes
+	 */
+	public long size() {
+		return size;
+	}
+}
@@ -0,0 +1,291 @@
+/**
+ * Purpose	Parallel reader for the dense CSV network format
+ * Status	Finished
+ * Last Update	10/17/26
+ * Submitted	N/A
+ * Comment	All code is my own original work
+ *
+ * The file is memory mapped and numbers are parsed straight from the
+ * bytes. The body is cut into byte ranges; the first pass counts the
+ * lines in each range so every range knows its first row number, and
+ * the second pass parses the rows of each range into its own list of
+ * relationships. As with the original reader, only the upper triangle
+ * of the matrix is used.
+ *
+ * @author	Alaina Iris
+ * @version	2026.10.17
+ */
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+public class MatrixReader {
+	private static final int CHUNK = 1 << 22;
+	private MappedInput input;
+	private String[] names;
+	private long bodyStart;
+	private long[] bounds;
+
+	/**
+	 * Create a reader over mapped input and read the names
+	 *
+	 * @param input Input to read
+	 */
+	public MatrixReader(MappedInput input) {
+		this.input = input;
+		if (input.size() == 0) {
+			throw new IllegalArgumentException("Please provide a file with a row of names!");
+		}
+		long end = lineEnd(0);
+		byte[] bytes = new byte[(int) end];
+		for (int i = 0; i < bytes.length; i++) {
+			bytes[i] = input.get(i);
+		}
+		int length = bytes.length;
+		if (length > 0 && bytes[length - 1] == '\r') {
+			length--;
+		}
+		names = new String(bytes, 0, length, StandardCharsets.UTF_8).split(",");
+		bodyStart = Math.min(end + 1, input.size());
+	}
+
+	/**
+	 * Read a network from a CSV file
+	 *
+	 * @param file File to read
+	 * @param executor Executor to parse on, null to parse in this thread
+	 * @return Network of the file
+	 * @throws IOException If the file cannot be read
+	 */
+	public static Network read(Path file, ExecutorService executor) throws IOException {
+		return new MatrixReader(MappedInput.open(file)).read(executor);
+	}
+
+	/**
+	 * Read the rows of the matrix
+	 *
+	 * @param executor Executor to parse on, null to parse in this thread
+	 * @return Network of the input
+	 */
+	public Network read(ExecutorService executor) {
+		int chunks = executor == null ? 1 : (int) Math.min(1024, (input.size() - bodyStart) / CHUNK + 1);
+		bounds = new long[chunks + 1];
+		for (int i = 0; i <= chunks; i++) {
+			bounds[i] = bodyStart + (input.size() - bodyStart) * i / chunks;
+		}
+		ArrayList<Callable<Integer>> counts = new ArrayList<Callable<Integer>>();
+		for (int i = 0; i < chunks; i++) {
+			int chunk = i;
+			counts.add(() -> countRows(chunk));
+		}
+		int[] firstRow = new int[chunks];
+		ArrayList<Integer> rows = run(counts, executor);
+		for (int i = 1; i < chunks; i++) {
+			firstRow[i] = firstRow[i - 1] + rows.get(i - 1);
+		}
+		ArrayList<Callable<EdgeBuffer>> parses = new ArrayList<Callable<EdgeBuffer>>();
+		for (int i = 0; i < chunks; i++) {
+			int chunk = i;
+			parses.add(() -> parseRows(chunk, firstRow[chunk]));
+		}
+		EdgeBuffer edges = new EdgeBuffer();
+		for (EdgeBuffer part : run(parses, executor)) {
+			edges.addAll(part);
+		}
+		return new Network(edges.toGraph(names.length), names);
+	}
+
+	/**
+	 * Count the rows which start in a chunk
+	 *
+	 * @param chunk Chunk to count
+	 * @return Number of rows
+	 */
+	private int countRows(int chunk) {
+		int count = 0;
+		for (long pos = rowStart(bounds[chunk]); pos < bounds[chunk + 1]; pos = lineEnd(pos) + 1) {
+			count++;
+		}
+		return count;
+	}
+
+	/**
+	 * Parse the rows which start in a chunk
+	 *
+	 * @param chunk Chunk to parse
+	 * @param row Row number of the first row in the chunk
+	 * @return Relationships found in the chunk
+	 */
+	private EdgeBuffer parseRows(int chunk, int row) {
+		EdgeBuffer edges = new EdgeBuffer();
+		for (long pos = rowStart(bounds[chunk]); pos < bounds[chunk + 1]; pos = lineEnd(pos) + 1) {
+			parseRow(pos, row, edges);
+			row++;
+		}
+		return edges;
+	}
+
+	/**
+	 * Parse a single row of the matrix
+	 *
+	 * @param pos Start of the row
+	 * @param row Row number
+	 * @param edges Where to put the relationships of the row
+	 */
+	private void parseRow(long pos, int row, EdgeBuffer edges) {
+		int len = names.length;
+		int cell = 0;
+		boolean done = false;
+		while (!done) {
+			boolean upper = cell > row && cell < len && row < len;
+			long value = 0;
+			boolean negative = false;
+			boolean digits = false;
+			int b = byteAt(pos);
+			if (upper && (b == '-' || b == '+')) {
+				negative = b == '-';
+				pos++;
+				b = byteAt(pos);
+			}
+			while (b != ',' && b != '\n' && !(b == '\r' && isLineEnd(pos + 1))) {
+				if (upper) {
+					if (b < '0' || b > '9' || value > Integer.MAX_VALUE) {
+						throw badCell(row, cell);
+					}
+					value = value * 10 + (b - '0');
+					digits = true;
+				}
+				pos++;
+				b = byteAt(pos);
+			}
+			if (upper) {
+				if (!digits || value > (negative ? 1L + Integer.MAX_VALUE : Integer.MAX_VALUE)) {
+					throw badCell(row, cell);
+				}
+				if (!negative && value > 0) {
+					edges.add(row, cell, (int) value);
+				}
+			}
+			cell++;
+			done = b != ',';
+			pos++;
+		}
+		if (cell != len) {
+			throw new IllegalArgumentException("Please ensure your file has even rows! Line " +
+					(row + 2) + " has " + cell + " values, expected " + len);
+		}
+	}
+
+	/**
+	 * Make the error for a cell which is not a number
+	 *
+	 * @param row Row of the cell
+	 * @param cell Column of the cell
+	 * @return Error to throw
+	 */
+	private IllegalArgumentException badCell(int row, int cell) {
+		return new IllegalArgumentException("Please ensure your file only has numbers! Line " +
+				(row + 2) + " has a bad value in column " + (cell + 1));
+	}
+
+	/**
+	 * Find the first row which starts at or after a position
+	 *
+	 * @param pos Position in the body
+	 * @return Start of the row
+	 */
+	private long rowStart(long pos) {
+		if (pos == bodyStart) {
+			return pos;
+		}
+		while (pos < input.size() && input.get(pos - 1) != '\n') {
+			pos++;
+		}
+		return pos;
+	}
+
+	/**
+	 * Find the end of the line holding a position
+	 *
+	 * @param pos Position in the line
+	 * @return Position of the newline, or the size of the input
+	 */
+	private long lineEnd(long pos) {
+		while (pos < input.size() && input.get(pos) != '\n') {
+			pos++;
+		}
+		return pos;
+	}
+
+	/**
+	 * Get the byte at a position, treating the end of the input as
+	 * a newline
+	 *
+	 * @param pos Position to read
+	 * @return Byte at the position
+	 */
+	private int byteAt(long pos) {
+		return pos < input.size() ? input.get(pos) : '\n';
+	}
+
+	/**
+	 * Check if a position ends a line
+	 *
+	 * @param pos Position to check
+	 * @return True at a newline or the end of the input
+	 */
+	private boolean isLineEnd(long pos) {
+		return byteAt(pos) == '\n';
+	}
+
+	/**
+	 * Run tasks on an executor, or in this thread without one
+	 *
+	 * @param tasks Tasks to run
+	 * @param executor Executor to use, may be null
+	 * @return Results in task order
+	 */
+	private static <T> ArrayList<T> run(ArrayList<Callable<T>> tasks, ExecutorService executor) {
+		ArrayList<T> results = new ArrayList<T>();
+		try {
+			if (executor == null) {
+				for (Callable<T> task : tasks) {
+					results.add(task.call());
+				}
+			} else {
+				for (Future<T> future : executor.invokeAll(tasks)) {
+					results.add(future.get());
+				}
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while reading", e);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException) {
+				throw (RuntimeException) e.getCause();
+			}
+			throw new IllegalStateException("Unable to read", e.getCause());
+		} catch (Exception e) {
+			if (e instanceof RuntimeException) {
+				throw (RuntimeException) e;
+			}
+			throw new IllegalStateException("Unable to read", e);
+		}
+		return results;
+	}
+
+	/**
+	 * Get the names read from the first row
+	 *
+	 * @return Names of individuals
+	 */
+	public String[] getNames() {
+		return names;
+	}
+}
@@ -0,0 +1,219 @@
+/**
+ * Purpose	Phase timers and counters for the scheduler
+ * Status	Finished
+ * Last Update	10/17/26
+ * Submitted	N/A
+ * Comment	All code is my own original work
+ *
+ * Timers cover cutting the network into layers, edge coloring, ordering
+ * the days of each layer, interleaving the layers and finding the strain
+ * of a schedule. Counters cover the fans and cd-paths of Misra & Gries,
+ * the colors used per layer and the heavy days repeated when ordering.
+ * Times are summed over threads, so with -t they can add up to more
+ * than the run took.
+ *
+ * Everything is off unless -Dnetwork.metrics=true is given or
+ * setEnabled is called, and while off each phase costs one volatile
+ * read. While on, every phase and layer is also sent to Java Flight
+ * Recorder as a PhaseEvent or LayerEvent when a recording asks for
+ * them, and registerMBean exposes the counters over JMX.
+ *
+ * @author	Alaina Iris
+ * @version	2026.10.17
+ */
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+public class Metrics {
+	public static final int BAND = 0;
+	public static final int COLOR = 1;
+	public static final int ORDER = 2;
+	public static final int INTERLEAVE = 3;
+	public static final int WEIGHT = 4;
+	public static final String OBJECT_NAME = "network:type=Scheduler";
+	private static final String[] PHASES = {"band", "color", "order", "interleave", "weight"};
+	private static volatile boolean enabled = Boolean.getBoolean("network.metrics");
+	private static final LongAdder[] nanos = adders(PHASES.length);
+	private static final LongAdder[] calls = adders(PHASES.length);
+	private static final LongAdder fans = new LongAdder();
+	private static final LongAdder fanSizes = new LongAdder();
+	private static final LongAdder pathLengths = new LongAdder();
+	private static final LongAccumulator longestPath = new LongAccumulator(Math::max, 0);
+	private static final LongAdder layers = new LongAdder();
+	private static final LongAdder colors = new LongAdder();
+	private static final LongAdder insertions = new LongAdder();
+
+	/**
+	 * Metrics are only reached statically
+	 */
+	private Metrics() {
+	}
+
+	/**
+	 * Check if metrics are being recorded
+	 *
+	 * @return True if recording
+	 */
+	public static boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * Start or stop recording metrics
+	 *
+	 * @param on True to record
+	 */
+	public static void setEnabled(boolean on) {
+		enabled = on;
+	}
+
+	/**
+	 * Start timing a phase
+	 *
+	 * @param phase BAND, COLOR, ORDER, INTERLEAVE or WEIGHT
+	 * @return Timer to pass to end, null when not recording
+	 */
+	public static PhaseEvent begin(int phase) {
+		if (!enabled) {
+			return null;
+		}
+		PhaseEvent event = new PhaseEvent(phase, PHASES[phase]);
+		event.begin();
+		return event;
+	}
+
+	/**
+	 * Finish timing a phase
+	 *
+	 * @param event Timer from begin, null when not recording
+	 */
+	public static void end(PhaseEvent event) {
+		if (event == null) {
+			return;
+		}
+		nanos[event.getPhase()].add(event.getElapsed());
+		calls[event.getPhase()].increment();
+		event.commit();
+	}
+
+	/**
+	 * Count the fans built and cd-paths inverted by Misra & Gries
+	 *
+	 * @param count Number of fans, one cd-path each
+	 * @param fanSize Total children of the fans
+	 * @param pathLength Total edges of the cd-paths
+	 * @param longest Edges of the longest cd-path
+	 */
+	public static void coloring(long count, long fanSize, long pathLength, int longest) {
+		if (!enabled) {
+			return;
+		}
+		fans.add(count);
+		fanSizes.add(fanSize);
+		pathLengths.add(pathLength);
+		longestPath.accumulate(longest);
+	}
+
+	/**
+	 * Count a finished layer
+	 *
+	 * @param relationships Relationships in the layer
+	 * @param used Colors used by the layer
+	 * @param inserted Days repeated when ordering the layer
+	 */
+	public static void layer(int relationships, int used, int inserted) {
+		if (!enabled) {
+			return;
+		}
+		layers.increment();
+		colors.add(used);
+		insertions.add(inserted);
+		LayerEvent event = new LayerEvent(relationships, used, inserted);
+		if (event.shouldCommit()) {
+			event.commit();
+		}
+	}
+
+	/**
+	 * Get the metrics recorded so far
+	 *
+	 * @return Copy of every timer and counter
+	 */
+	public static MetricsSnapshot snapshot() {
+		long[] phaseNanos = new long[PHASES.length];
+		long[] phaseCalls = new long[PHASES.length];
+		for (int i = 0; i < PHASES.length; i++) {
+			phaseNanos[i] = nanos[i].sum();
+			phaseCalls[i] = calls[i].sum();
+		}
+		return new MetricsSnapshot(PHASES, phaseNanos, phaseCalls, fans.sum(), fanSizes.sum(),
+				pathLengths.sum(), longestPath.get(), layers.sum(), colors.sum(), insertions.sum());
+	}
+
+	/**
+	 * Set every timer and counter back to 0
+	 */
+	public static void reset() {
+		for (int i = 0; i < PHASES.length; i++) {
+			nanos[i].reset();
+			calls[i].reset();
+		}
+		fans.reset();
+		fanSizes.reset();
+		pathLengths.reset();
+		longestPath.reset();
+		layers.reset();
+		colors.reset();
+		insertions.reset();
+	}
+
+	/**
+	 * Register the metrics with the platform MBean server as
+	 * OBJECT_NAME. Registering twice does nothing.
+	 */
+	public static void registerMBean() {
+		MetricsMXBean bean = new MetricsMXBean() {
+			public boolean isEnabled() {
+				return Metrics.isEnabled();
+			}
+
+			public void setEnabled(boolean on) {
+				Metrics.setEnabled(on);
+			}
+
+			public MetricsSnapshot getSnapshot() {
+				return Metrics.snapshot();
+			}
+
+			public void reset() {
+				Metrics.reset();
+			}
+		};
+		try {
+			ManagementFactory.getPlatformMBeanServer().registerMBean(bean, new ObjectName(OBJECT_NAME));
+		} catch (InstanceAlreadyExistsException e) {
+			return;
+		} catch (JMException e) {
+			throw new IllegalStateException("Unable to register metrics", e);
+		}
+	}
+
+	/**
+	 * Make a row of adders
+	 *
+	 * @param count Number of adders
+	 * @return Adders, all 0
+	 */
+	private static LongAdder[] adders(int count) {
+		LongAdder[] row = new LongAdder[count];
+		for (int i = 0; i < count; i++) {
+			row[i] = new LongAdder();
+		}
+		return row;
+	}
+}
@@ -0,0 +1,38 @@
+/**
+ * Purpose	JMX view of the scheduler metrics
+ * Status	Finished
+ * Last Update	10/17/26
+ * Submitted	N/A
+ * Comment	All code is my own original work
+ *
+ * @author	Alaina Iris
+ * @version	2026.10.17
+ */
+
+public interface MetricsMXBean {
+	/**
+	 * Check if metrics are being recorded
+	 *
+	 * @return True if recording
+	 */
+	boolean isEnabled();
+
+	/**
+	 * Start or stop recording metrics
+	 *
+	 * @param on True to record
+	 */
+	void setEnabled(boolean on);
+
+	/**
+	 * Get the metrics recorded so far
+	 *
+	 * @return Copy of every timer and counter
+	 */
+	MetricsSnapshot getSnapshot();
+
+	/**
+	 * Set every timer and counter back to 0
+	 */
+	void reset();
+}
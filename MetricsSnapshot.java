@@ -0,0 +1,216 @@
+/**
+ * Purpose	Copy of the scheduler metrics at one moment
+ * Status	Finished
+ * Last Update	10/17/26
+ * Submitted	N/A
+ * Comment	All code is my own original work
+ *
+ * @author	Alaina Iris
+ * @version	2026.10.17
+ */
+
+public class MetricsSnapshot {
+	private String[] phases;
+	private long[] nanos;
+	private long[] calls;
+	private long fans;
+	private long fanSizes;
+	private long pathLengths;
+	private long longestPath;
+	private long layers;
+	private long colors;
+	private long insertions;
+
+	/**
+	 * Create a snapshot
+	 *
+	 * @param phases Name of each phase
+	 * @param nanos Total time of each phase
+	 * @param calls Times each phase ran
+	 * @param fans Fans built
+	 * @param fanSizes Total children of the fans
+	 * @param pathLengths Total edges of the cd-paths
+	 * @param longestPath Edges of the longest cd-path
+	 * @param layers Layers finished
+	 * @param colors Total colors of the layers
+	 * @param insertions Days repeated when ordering layers
+	 */
+	public MetricsSnapshot(String[] phases, long[] nanos, long[] calls, long fans, long fanSizes,
+			long pathLengths, long longestPath, long layers, long colors, long insertions) {
+		this.phases = phases;
+		this.nanos = nanos;
+		this.calls = calls;
+		this.fans = fans;
+		this.fanSizes = fanSizes;
+		this.pathLengths = pathLengths;
+		this.longestPath = longestPath;
+		this.layers = layers;
+		this.colors = colors;
+		this.insertions = insertions;
+	}
+
+	/**
+	 * Get the number of timed phases
+	 *
+	 * @return Number of phases
+	 */
+	public int getPhaseCount() {
+		return phases.length;
+	}
+
+	/**
+	 * Get the name of a phase
+	 *
+	 * @param phase Phase from Metrics
+	 * @return Phase name
+	 */
+	public String getPhaseName(int phase) {
+		return phases[phase];
+	}
+
+	/**
+	 * Get the total time of a phase
+	 *
+	 * @param phase Phase from Metrics
+	 * @return Nanoseconds, summed over threads
+	 */
+	public long getNanos(int phase) {
+		return nanos[phase];
+	}
+
+	/**
+	 * Get the number of times a phase ran
+	 *
+	 * @param phase Phase from Metrics
+	 * @return Number of runs
+	 */
+	public long getCalls(int phase) {
+		return calls[phase];
+	}
+
+	/**
+	 * Get the time spent cutting networks into layers
+	 *
+	 * @return Nanoseconds
+	 */
+	public long getBandNanos() {
+		return nanos[Metrics.BAND];
+	}
+
+	/**
+	 * Get the time spent edge coloring layers
+	 *
+	 * @return Nanoseconds
+	 */
+	public long getColorNanos() {
+		return nanos[Metrics.COLOR];
+	}
+
+	/**
+	 * Get the time spent ordering the days of layers
+	 *
+	 * @return Nanoseconds
+	 */
+	public long getOrderNanos() {
+		return nanos[Metrics.ORDER];
+	}
+
+	/**
+	 * Get the time spent interleaving layers
+	 *
+	 * @return Nanoseconds
+	 */
+	public long getInterleaveNanos() {
+		return nanos[Metrics.INTERLEAVE];
+	}
+
+	/**
+	 * Get the time spent finding the strain of schedules
+	 *
+	 * @return Nanoseconds
+	 */
+	public long getWeightNanos() {
+		return nanos[Metrics.WEIGHT];
+	}
+
+	/**
+	 * Get the number of fans built by Misra & Gries
+	 *
+	 * @return Fans built
+	 */
+	public long getFans() {
+		return fans;
+	}
+
+	/**
+	 * Get the average number of children in a fan
+	 *
+	 * @return Average fan size, 0 with no fans
+	 */
+	public double getAverageFanSize() {
+		return fans == 0 ? 0 : (double) fanSizes / fans;
+	}
+
+	/**
+	 * Get the average number of edges in an inverted cd-path
+	 *
+	 * @return Average cd-path length, 0 with no fans
+	 */
+	public double getAverageCdPathLength() {
+		return fans == 0 ? 0 : (double) pathLengths / fans;
+	}
+
+	/**
+	 * Get the number of edges in the longest inverted cd-path
+	 *
+	 * @return Longest cd-path length
+	 */
+	public long getLongestCdPath() {
+		return longestPath;
+	}
+
+	/**
+	 * Get the number of layers finished
+	 *
+	 * @return Layers
+	 */
+	public long getLayers() {
+		return layers;
+	}
+
+	/**
+	 * Get the average number of colors used by a layer
+	 *
+	 * @return Average colors, 0 with no layers
+	 */
+	public double getAverageColors() {
+		return layers == 0 ? 0 : (double) colors / layers;
+	}
+
+	/**
+	 * Get the number of days repeated when ordering layers
+	 *
+	 * @return Repeated days
+	 */
+	public long getInsertions() {
+		return insertions;
+	}
+
+	/**
+	 * Get a pretty string for output
+	 *
+	 * @return Pretty string
+	 */
+	public String toString() {
+		StringBuilder text = new StringBuilder();
+		for (int i = 0; i < phases.length; i++) {
+			text.append(String.format("%-12s%10.3f ms in %d runs\n", phases[i], nanos[i] / 1e6, calls[i]));
+		}
+		text.append(String.format("Fans built:\t\t%d, %.2f children on average\n", fans, getAverageFanSize()));
+		text.append(String.format("cd-paths:\t\t%.2f edges on average, %d at most\n",
+				getAverageCdPathLength(), longestPath));
+		text.append(String.format("Layers:\t\t\t%d, %.2f colors on average\n", layers, getAverageColors()));
+		text.append("Repeated days:\t\t").append(insertions);
+		return text.toString();
+	}
+}
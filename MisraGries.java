@@ -0,0 +1,528 @@
+/**
+ * Purpose	Allocation free Misra & Gries edge coloring engine
+ * Status	Finished
+ * Last Update	10/17/26
+ * Submitted	N/A
+ * Comment	All code is my own original work
+ * Comment	Solution credit goes to Jayadev Misra and David Gries
+ * 		Their 1992 paper on the implemented algorithm is below
+ *
+ * Readings	https://www.cs.utexas.edu/~misra/psp.dir/vizing.pdf
+ *
+ * Colors are numbered 1 to Δ+1, with 0 meaning uncolored. Every vertex
+ * keeps a bitset of the colors used on it and a table from color to the
+ * edge holding that color, so fans and cd-paths are found without
+ * scanning. Fans and paths are built in scratch arrays which are reused
+ * between edges, so coloring one edge costs O(Δ + path length).
+ * Edges can also be added and removed one at a time, with the palette
+ * growing as degrees grow.
+ *
+ * @author	Alaina Iris
+ * @version	2026.10.17
+ */
+
+import java.util.Arrays;
+
+public class MisraGries {
+	private int[] first;
+	private int[] second;
+	private int[] degree;
+	private int count;
+	private int[] free;
+	private int freeCount;
+	private int[] colors;
+	private int palette;
+	private int stride;
+	private int words;
+	private int[] at;
+	private long[] used;
+	// Scratch space, reused for every edge
+	private int[] fan;
+	private int[] fanEdges;
+	private int[] fanColors;
+	private long[] inFan;
+	private int[] path;
+	// Edges given a color by the last call to colorEdge
+	private int[] changed;
+	private int changedCount;
+	// Fans and cd-paths since the last report to Metrics
+	private long fans;
+	private long fanSizes;
+	private long pathLengths;
+	private int longestPath;
+
+	/**
+	 * Create a coloring engine for a graph with every edge uncolored
+	 *
+	 * @param graph Relationships to color
+	 */
+	public MisraGries(Graph graph) {
+		count = graph.getEdgeCount();
+		first = new int[count];
+		second = new int[count];
+		for (int e = 0; e < count; e++) {
+			first[e] = graph.getFirst(e);
+			second[e] = graph.getSecond(e);
+		}
+		degree = new int[graph.size()];
+		int max = 0;
+		for (int v = 0; v < graph.size(); v++) {
+			degree[v] = graph.degree(v);
+			max = Math.max(max, degree[v]);
+		}
+		colors = new int[count];
+		free = new int[0];
+		allocate(graph.size(), max + 1);
+	}
+
+	/**
+	 * Create a coloring engine with no edges, which edges can be
+	 * added to and removed from
+	 *
+	 * @param size Number of vertices
+	 */
+	public MisraGries(int size) {
+		first = new int[16];
+		second = new int[16];
+		colors = new int[16];
+		degree = new int[size];
+		free = new int[16];
+		allocate(size, 1);
+	}
+
+	/**
+	 * Make the color tables for a palette
+	 *
+	 * @param size Number of vertices
+	 * @param colors Palette size
+	 */
+	private void allocate(int size, int colors) {
+		palette = colors;
+		stride = palette + 1;
+		words = (stride + 63) >>> 6;
+		at = new int[size * stride];
+		Arrays.fill(at, -1);
+		used = new long[size * words];
+		fan = new int[palette];
+		fanEdges = new int[palette];
+		fanColors = new int[palette];
+		inFan = new long[words];
+		if (path == null) {
+			path = new int[16];
+			changed = new int[16];
+		}
+	}
+
+	/**
+	 * Grow the palette, keeping every color. Colors are always taken
+	 * lowest first, so a larger palette never adds colors by itself.
+	 *
+	 * @param needed Palette size needed
+	 */
+	private void ensurePalette(int needed) {
+		if (needed <= palette) {
+			return;
+		}
+		int oldStride = stride;
+		int oldWords = words;
+		int[] oldAt = at;
+		long[] oldUsed = used;
+		allocate(degree.length, Math.max(needed, palette * 2));
+		for (int v = 0; v < degree.length; v++) {
+			System.arraycopy(oldAt, v * oldStride, at, v * stride, oldStride);
+			System.arraycopy(oldUsed, v * oldWords, used, v * words, oldWords);
+		}
+	}
+
+	/**
+	 * Color every edge, in edge order
+	 */
+	public void colorAll() {
+		for (int e = 0; e < count; e++) {
+			if (colors[e] == 0 && first[e] >= 0) {
+				colorEdge(e);
+			}
+		}
+		report();
+	}
+
+	/**
+	 * Start from a coloring made by another strategy. Any proper
+	 * coloring can be grown from, and the palette is widened to hold
+	 * its highest color. Edges given color 0 are left uncolored for
+	 * colorAll.
+	 *
+	 * @param start Color of every edge, 0 for uncolored
+	 */
+	public void setColors(int[] start) {
+		if (start.length != count) {
+			throw new IllegalArgumentException("Expected " + count + " colors, got " + start.length);
+		}
+		int highest = 0;
+		for (int color : start) {
+			if (color < 0) {
+				throw new IllegalArgumentException("Edge color " + color + " is not valid");
+			}
+			highest = Math.max(highest, color);
+		}
+		ensurePalette(highest);
+		for (int e = 0; e < count; e++) {
+			if (colors[e] != 0) {
+				uncolor(e);
+			}
+		}
+		for (int e = 0; e < count; e++) {
+			if (start[e] == 0) {
+				continue;
+			}
+			if (at[first[e] * stride + start[e]] >= 0 || at[second[e] * stride + start[e]] >= 0) {
+				throw new IllegalArgumentException("Edge " + e + " shares color " + start[e] + " with a neighbor");
+			}
+			setColor(e, start[e]);
+		}
+		changedCount = 0;
+	}
+
+	/**
+	 * Color a single uncolored edge, recoloring other edges as needed
+	 *
+	 * @param e Edge to color
+	 */
+	public void colorEdge(int e) {
+		changedCount = 0;
+		int root = first[e];
+		int size = buildFan(root, e);
+		int c = freeColor(root);
+		int d = freeColor(fan[size - 1]);
+		int length = invertCDPath(root, c, d);
+		fans++;
+		fanSizes += size;
+		pathLengths += length;
+		longestPath = Math.max(longestPath, length);
+		int w = findRotation(size, d);
+		rotate(w, d);
+	}
+
+	/**
+	 * Add an edge and color it. Only edges on the fan of the new edge
+	 * and on one cd-path are recolored, so the work depends on the
+	 * degree of its ends and the path length, not on the graph size.
+	 *
+	 * @param u First end
+	 * @param v Second end
+	 * @return Id of the new edge
+	 */
+	public int addEdge(int u, int v) {
+		if (u < 0 || u >= degree.length || v < 0 || v >= degree.length || u == v) {
+			throw new IllegalArgumentException("Edge " + u + " - " + v + " is not valid");
+		}
+		int e;
+		if (freeCount > 0) {
+			e = free[--freeCount];
+		} else {
+			if (count == first.length) {
+				first = Arrays.copyOf(first, Math.max(16, count * 2));
+				second = Arrays.copyOf(second, first.length);
+				colors = Arrays.copyOf(colors, first.length);
+			}
+			e = count++;
+		}
+		first[e] = Math.min(u, v);
+		second[e] = Math.max(u, v);
+		degree[u]++;
+		degree[v]++;
+		ensurePalette(Math.max(degree[u], degree[v]) + 1);
+		colorEdge(e);
+		report();
+		return e;
+	}
+
+	/**
+	 * Remove an edge. Removing an edge never makes a coloring
+	 * invalid, so no other edge is recolored.
+	 *
+	 * @param e Edge to remove
+	 */
+	public void removeEdge(int e) {
+		if (e < 0 || e >= count || first[e] < 0) {
+			throw new IllegalArgumentException("Edge " + e + " does not exist");
+		}
+		if (colors[e] != 0) {
+			uncolor(e);
+		}
+		degree[first[e]]--;
+		degree[second[e]]--;
+		first[e] = -1;
+		second[e] = -1;
+		if (freeCount == free.length) {
+			free = Arrays.copyOf(free, Math.max(16, freeCount * 2));
+		}
+		free[freeCount++] = e;
+	}
+
+	/**
+	 * Build a maximal fan around the root, starting with edge e
+	 *
+	 * @param root Root of the fan
+	 * @param e Uncolored edge at the root
+	 * @return Number of fan children
+	 */
+	private int buildFan(int root, int e) {
+		fan[0] = other(e, root);
+		fanEdges[0] = e;
+		fanColors[0] = 0;
+		int size = 1;
+		int rootBase = root * words;
+		boolean maximal = false;
+		while (!maximal) {
+			maximal = true;
+			int lastBase = fan[size - 1] * words;
+			for (int i = 0; i < words; i++) {
+				long bits = ~used[lastBase + i] & used[rootBase + i] & ~inFan[i];
+				if (bits != 0) {
+					int color = (i << 6) + Long.numberOfTrailingZeros(bits);
+					int edge = at[root * stride + color];
+					inFan[i] |= 1L << color;
+					fan[size] = other(edge, root);
+					fanEdges[size] = edge;
+					fanColors[size] = color;
+					size++;
+					maximal = false;
+					break;
+				}
+			}
+		}
+		for (int i = 1; i < size; i++) {
+			inFan[fanColors[i] >>> 6] = 0;
+		}
+		return size;
+	}
+
+	/**
+	 * Invert the cd-path starting at the root. The root has c free,
+	 * so the path starts with the root's d edge.
+	 *
+	 * @param root Root of the fan
+	 * @param c Color free on the root
+	 * @param d Color free on the last fan child
+	 * @return Number of edges on the path
+	 */
+	private int invertCDPath(int root, int c, int d) {
+		int length = 0;
+		int pos = root;
+		int color = d;
+		int edge = at[pos * stride + color];
+		while (edge >= 0) {
+			if (length == path.length) {
+				path = Arrays.copyOf(path, length * 2);
+			}
+			path[length++] = edge;
+			pos = other(edge, pos);
+			color = color == d ? c : d;
+			edge = at[pos * stride + color];
+		}
+		for (int i = 0; i < length; i++) {
+			uncolor(path[i]);
+		}
+		for (int i = 0; i < length; i++) {
+			setColor(path[i], (i & 1) == 0 ? c : d);
+		}
+		return length;
+	}
+
+	/**
+	 * Pass the fans and cd-paths since the last report on to Metrics
+	 */
+	private void report() {
+		Metrics.coloring(fans, fanSizes, pathLengths, longestPath);
+		fans = 0;
+		fanSizes = 0;
+		pathLengths = 0;
+		longestPath = 0;
+	}
+
+	/**
+	 * Find the first child w which has d free while F[0:w] is
+	 * still a valid subfan
+	 *
+	 * @param size Number of fan children
+	 * @param d Color free on the root after inversion
+	 * @return w for the F[0:w] subfan
+	 */
+	private int findRotation(int size, int d) {
+		for (int i = 0; i < size; i++) {
+			if (i > 0 && isUsed(fan[i - 1], colors[fanEdges[i]])) {
+				break;
+			}
+			if (!isUsed(fan[i], d)) {
+				return i;
+			}
+		}
+		throw new IllegalStateException("No valid subfan for edge " + fanEdges[0]);
+	}
+
+	/**
+	 * Shift each color of F[0:w] down one child and give the last
+	 * child color d
+	 *
+	 * @param w End of the subfan
+	 * @param d Color to give the last child
+	 */
+	private void rotate(int w, int d) {
+		for (int i = 1; i <= w; i++) {
+			fanColors[i] = colors[fanEdges[i]];
+			uncolor(fanEdges[i]);
+		}
+		for (int i = 0; i < w; i++) {
+			setColor(fanEdges[i], fanColors[i + 1]);
+		}
+		setColor(fanEdges[w], d);
+	}
+
+	/**
+	 * Find the lowest color free on a vertex
+	 *
+	 * @param v Vertex
+	 * @return Free color
+	 */
+	private int freeColor(int v) {
+		int base = v * words;
+		for (int i = 0; i < words; i++) {
+			long bits = ~used[base + i];
+			if (i == 0) {
+				bits &= ~1L;
+			}
+			if (bits != 0) {
+				return (i << 6) + Long.numberOfTrailingZeros(bits);
+			}
+		}
+		throw new IllegalStateException("Vertex " + v + " has no free color");
+	}
+
+	/**
+	 * Check if a color is used on a vertex
+	 *
+	 * @param v Vertex
+	 * @param color Color to check
+	 * @return True if an edge of v has the color
+	 */
+	private boolean isUsed(int v, int color) {
+		return (used[v * words + (color >>> 6)] & (1L << color)) != 0;
+	}
+
+	/**
+	 * Give an uncolored edge a color
+	 *
+	 * @param e Edge
+	 * @param color Color to give
+	 */
+	private void setColor(int e, int color) {
+		int u = first[e];
+		int v = second[e];
+		colors[e] = color;
+		if (changedCount == changed.length) {
+			changed = Arrays.copyOf(changed, changedCount * 2);
+		}
+		changed[changedCount++] = e;
+		at[u * stride + color] = e;
+		at[v * stride + color] = e;
+		used[u * words + (color >>> 6)] |= 1L << color;
+		used[v * words + (color >>> 6)] |= 1L << color;
+	}
+
+	/**
+	 * Remove the color of an edge
+	 *
+	 * @param e Edge
+	 */
+	private void uncolor(int e) {
+		int color = colors[e];
+		int u = first[e];
+		int v = second[e];
+		colors[e] = 0;
+		at[u * stride + color] = -1;
+		at[v * stride + color] = -1;
+		used[u * words + (color >>> 6)] &= ~(1L << color);
+		used[v * words + (color >>> 6)] &= ~(1L << color);
+	}
+
+	/**
+	 * Get the other end of an edge
+	 *
+	 * @param e Edge
+	 * @param v One end of the edge
+	 * @return The other end
+	 */
+	private int other(int e, int v) {
+		return first[e] == v ? second[e] : first[e];
+	}
+
+	/**
+	 * Get the color of every edge
+	 *
+	 * @return Edge colors, 0 for uncolored
+	 */
+	public int[] getColors() {
+		return colors;
+	}
+
+	/**
+	 * Get the color of an edge
+	 *
+	 * @param e Edge
+	 * @return Color, 0 for uncolored
+	 */
+	public int getColor(int e) {
+		return colors[e];
+	}
+
+	/**
+	 * Get the lower end of an edge
+	 *
+	 * @param e Edge
+	 * @return Lower end, -1 for a removed edge
+	 */
+	public int getFirst(int e) {
+		return first[e];
+	}
+
+	/**
+	 * Get the higher end of an edge
+	 *
+	 * @param e Edge
+	 * @return Higher end, -1 for a removed edge
+	 */
+	public int getSecond(int e) {
+		return second[e];
+	}
+
+	/**
+	 * Get the number of edges given a color by the last call to
+	 * colorEdge or addEdge, including the new edge
+	 *
+	 * @return Number of changed edges
+	 */
+	public int getChangedCount() {
+		return changedCount;
+	}
+
+	/**
+	 * Get an edge given a color by the last call to colorEdge or
+	 * addEdge. An edge may be listed more than once.
+	 *
+	 * @param i Index of the change
+	 * @return Edge id
+	 */
+	public int getChanged(int i) {
+		return changed[i];
+	}
+
+	/**
+	 * Get the number of colors available, Δ+1
+	 *
+	 * @return Palette size
+	 */
+	public int getPalette() {
+		return palette;
+	}
+}
@@ -0,0 +1,35 @@
+/**
+ * Purpose	Misra & Gries edge coloring as a coloring strategy
+ * Status	Finished
+ * Last Update	10/17/26
+ * Submitted	N/A
+ * Comment	All code is my own original work
+ *
+ * Uses at most Δ+1 colors on any graph.
+ *
+ * @author	Alaina Iris
+ * @version	2026.10.17
+ */
+
+public class MisraGriesColorer implements EdgeColorer {
+	/**
+	 * Color every edge of a graph
+	 *
+	 * @param graph Relationships to color
+	 * @return Color of every edge, from 1
+	 */
+	public int[] color(Graph graph) {
+		MisraGries engine = new MisraGries(graph);
+		engine.colorAll();
+		return engine.getColors();
+	}
+
+	/**
+	 * Get the name of the strategy for reports
+	 *
+	 * @return Strategy name
+	 */
+	public String getName() {
+		return "MisraGries";
+	}
+}
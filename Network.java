@@ -3,18 +3,22 @@
  * 		optimized schedule when given a hypothetical
  * 		relationship matrix
  * Status	Finished
- * Last update	01/06/25
+ * Last update	10/17/26
  * Submitted	N/A
  * Comment	All code is my own original work
  * 
  * @author	Alaina Iris
- * @version	2025.01.06
+ * @version	2026.10.17
  */
 import java.util.ArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 public class Network {
-	private int[][] network;
+	private Graph graph;
 	private String[] names;
+	private NetworkStats stats;
 
 	/**
 	 * Create a new network
@@ -23,29 +27,58 @@ public class Network {
 	 * @param names names of individuals
 	 */
 	public Network(int[][] network, String[] names) {
-		this.network = network;
+		this(Graph.fromMatrix(network), names);
+	}
+
+	/**
+	 * Create a new network from a relationship graph
+	 *
+	 * @param graph network relations
+	 * @param names names of individuals
+	 */
+	public Network(Graph graph, String[] names) {
+		this.graph = graph;
 		this.names = names;
 	}
 
+	/**
+	 * Get the relationship graph
+	 *
+	 * @return Relationship graph
+	 */
+	public Graph getGraph() {
+		return graph;
+	}
+
+	/**
+	 * Get the names of the individuals
+	 *
+	 * @return Names, null if none were given
+	 */
+	public String[] getNames() {
+		return names;
+	}
+
+	/**
+	 * Get the profile of the network, found in one pass the first time
+	 * it is asked for. The graph never changes, so it is kept.
+	 *
+	 * @return Network profile
+	 */
+	public NetworkStats getStats() {
+		if (stats == null) {
+			stats = new NetworkStats(graph);
+		}
+		return stats;
+	}
+
 	/**
 	 * Get max # of relationships a person has
 	 *
 	 * @return maximum degree
 	 */
 	public int getDegree() {
-		int max = 0;
-		for(int i = 0; i < network.length; i++) {
-			int degree = 0;
-			for(int j = 0; j < network.length; j++) {
-				if (network[i][j] > 0) {
-					degree++;
-				}
-			}
-			if (degree > max) {
-				max = degree;
-			}
-		}
-		return max;
+		return getStats().getMaxDegree();
 	}
 
 	/**
@@ -54,12 +87,7 @@ public class Network {
 	 * @return Layers to make
 	 */
 	public int getLayers() {
-		int degree = (getDegree() + 1) / 3;
-		int count;
-		for(count = 0; degree >= 2; degree /= 2) {
-			count++;
-		}
-		return count;
+		return getStats().getLayers();
 	}
 
 	/**
@@ -68,15 +96,7 @@ public class Network {
 	 * @return Maximum weight of a relationship
 	 */
 	public int getMax() {
-		int max = 0;
-		for(int i = 0; i < network.length - 1; i++) {
-			for(int j = i + 1; j < network.length; j++) {
-				if (network[i][j] > max) {
-					max = network[i][j];
-				}
-			}
-		}
-		return max;
+		return getStats().getMaxWeight();
 	}
 
 	/**
@@ -103,16 +123,7 @@ public class Network {
 	 * @return # of relationships
 	 */
 	public int getNumberOfRelationships() {
-		int count = 0;
-		for(int i = 0; i < network.length - 1; i++) {
-			for(int j = i + 1; j < network.length; j++) {
-				if (network[i][j] > 0) {
-					count++;
-				}
-			}
-		}
-
-		return count;
+		return graph.getEdgeCount();
 	}
 
 	/**
@@ -121,15 +132,7 @@ public class Network {
 	 * @return Maximum bound for approximation
 	 */
 	public int getApproximationLimit() {
-		int size = network.length;
-		size = size * size * size;
-		int count = 0;
-		while (size >= 2) {
-			count++;
-			size /= 2;
-		}
-
-		return getMinimumRun() * count;
+		return getStats().getApproximationLimit();
 	}
 
 	/**
@@ -138,24 +141,7 @@ public class Network {
 	 * @return Best case of schedule weight
 	 */
 	public int getMinimumRun() {
-		int maximum = getMax();
-		for(int i = 0; i < network.length; i++) {
-			int degree = 0;
-			int lowest = maximum;
-			for(int j = 0; j < network.length; j++) {
-				int weight = network[i][j];
-				if (weight > 0) {
-					degree++;
-					if (weight < lowest) {
-						lowest = weight;
-					}
-				}
-			}
-			if (degree * lowest > maximum) {
-				maximum = degree * lowest;
-			}
-		}
-		return maximum;
+		return getStats().getLowerBound();
 	}
 
 	/**
@@ -164,60 +150,142 @@ public class Network {
 	 * @return Approximate optimized schedule
 	 */
 	public Schedule optimizedSchedule() {
-		ArrayList<Layer> scheduleLayers = new ArrayList<Layer>();
-		int layers = getLayers();
-		int size = getMax();
-		while (layers > 0) { // Break down layers
-			int min = size / 2;
-			int max = size;
-			int[][] section = clone2DArr(network);
+		return optimizedSchedule(null);
+	}
 
-			for(int i = 0; i < section.length - 1; i++) {
-				for(int j = i + 1; j < section.length; j++) {
-					if (section[i][j] > max || section[i][j] <= min) {
-						section[i][j] = 0;
-						section[i][j] = 0;
-					}
-				}
-			}
+	/**
+	 * Get our approximate optimized schedule, building the layers
+	 * concurrently. Layers share no state until they are interleaved,
+	 * and they are interleaved in the same fixed order. Layers of at
+	 * least ParallelColorer.MIN_EDGES relationships are also colored
+	 * across the executor, batches of connected groups per task, so the
+	 * schedule is the same as the sequential one.
+	 *
+	 * @param executor Executor to build layers on, null to build them in order
+	 * @return Approximate optimized schedule
+	 */
+	public Schedule optimizedSchedule(ExecutorService executor) {
+		return optimizedSchedule(executor, false);
+	}
+
+	/**
+	 * Get our approximate optimized schedule, building the layers
+	 * concurrently, and optionally splitting very large groups across
+	 * the executor too. A group of at least ParallelColorer.MIN_EDGES
+	 * relationships is then colored by ParallelColorer, whose coloring
+	 * depends on the number of threads but not on timing, so every run
+	 * with the same executor size makes the same schedule, but it may
+	 * differ from the sequential one.
+	 *
+	 * @param executor Executor to build layers on, null to build them in order
+	 * @param split True to color very large groups across the executor
+	 * @return Approximate optimized schedule
+	 */
+	public Schedule optimizedSchedule(ExecutorService executor, boolean split) {
+		ArrayList<Schedule> layerSchedules = layerSchedules(executor, split);
+		PhaseEvent timer = Metrics.begin(Metrics.INTERLEAVE);
+		Schedule s = Schedule.interleave(layerSchedules, names);
+		Metrics.end(timer);
+		return s;
+	}
 
-			scheduleLayers.add(new Layer(section));
-			layers--;
-			size /= 2;
+	/**
+	 * Get our approximate optimized schedule as a view over the layer
+	 * schedules, without copying them into one schedule. Day k is
+	 * worked out when it is asked for, so a schedule too long to keep
+	 * can still be read day by day.
+	 *
+	 * @param executor Executor to build layers on, null to build them in order
+	 * @return Approximate optimized schedule, one period of it
+	 */
+	public PeriodicSchedule periodicSchedule(ExecutorService executor) {
+		return new PeriodicSchedule(layerSchedules(executor, false), names);
+	}
+
+	/**
+	 * Improve a schedule by local search until a time or iteration
+	 * budget runs out, or it reaches the lower bound. The best schedule
+	 * found is kept throughout, so the result is never worse than the
+	 * one given.
+	 *
+	 * @param s Schedule to improve, such as from optimizedSchedule
+	 * @param millis Time budget in milliseconds, 0 for none
+	 * @param iterations Iteration budget of each search, 0 for none
+	 * @param executor Executor to run one search per thread on, null to
+	 * 		run one search on this thread
+	 * @return Best schedule found
+	 */
+	public Schedule improvedSchedule(Schedule s, long millis, long iterations, ExecutorService executor) {
+		return new ScheduleImprover(graph, s).improve(millis, iterations, getMinimumRun(), executor);
+	}
+
+	/**
+	 * Build the schedule of every layer
+	 *
+	 * @param executor Executor to build layers on, null to build them in order
+	 * @param split True to color very large groups across the executor
+	 * @return Layer schedules, heaviest first
+	 */
+	private ArrayList<Schedule> layerSchedules(ExecutorService executor, boolean split) {
+		// Break down layers, with the final layer taking any remaining values
+		PhaseEvent timer = Metrics.begin(Metrics.BAND);
+		Bands bands = new Bands(graph, getMax(), getLayers());
+		Metrics.end(timer);
+		ArrayList<Schedule> layerSchedules = new ArrayList<Schedule>();
+		for (Layer layer : buildLayers(bands, executor, split)) {
+			layerSchedules.add(layer.getSchedule());
 		}
-		// Get the final layer with any remaining values
-		int[][] layer = this.clone2DArr(this.network);
+		return layerSchedules;
+	}
 
-		for(int i = 0; i < network.length - 1; i++) {
-			for(int j = i + 1; j < network.length; j++) {
-				if (network[i][j] > size) {
-					layer[i][j] = 0;
-					layer[j][i] = 0;
-				}
+	/**
+	 * Build a layer for every weight band
+	 *
+	 * @param bands Relationships of each weight band
+	 * @param executor Executor to build layers on, null to build them in order
+	 * @param split True to color very large groups across the executor
+	 * @return Layers in band order
+	 */
+	private ArrayList<Layer> buildLayers(Bands bands, ExecutorService executor, boolean split) {
+		ArrayList<Layer> layers = new ArrayList<Layer>();
+		if (executor == null) {
+			for (int b = 0; b < bands.getCount(); b++) {
+				layers.add(new Layer(graph, bands.getEdges(b)));
 			}
+			return layers;
 		}
-
-		scheduleLayers.add(new Layer(layer));
-		Schedule s = new Schedule(names);
-		// Interleave the layers
-		for(int i = scheduleLayers.size() - 1; i >= 0; i--) {
-			int increment = 0;
-			ArrayList<ArrayList<Integer[]>> days = scheduleLayers.get(i).getSchedule().getDays();
-			int day = 0;
-			while (day < days.size() || increment < s.size()) {
-				if (increment >= s.size()) {
-					s.add(days.get(day));
-					day++;
-					increment++;
+		// Large layers are colored across the executor from this thread,
+		// so no pool thread waits on the pool
+		ArrayList<int[]> large = new ArrayList<int[]>();
+		ArrayList<Future<Layer>> futures = new ArrayList<Future<Layer>>();
+		for (int b = 0; b < bands.getCount(); b++) {
+			int[] layer = bands.getEdges(b);
+			if (layer.length >= ParallelColorer.MIN_EDGES) {
+				large.add(layer);
+				futures.add(null);
+			} else {
+				large.add(null);
+				futures.add(executor.submit(() -> new Layer(graph, layer)));
+			}
+		}
+		try {
+			for (int i = 0; i < futures.size(); i++) {
+				if (futures.get(i) == null) {
+					layers.add(new Layer(graph, large.get(i), new ComponentColorer(executor, split)));
 				} else {
-					s.add(increment, days.get(day % days.size()));
-					increment += 2;
-					day++;
+					layers.add(futures.get(i).get());
 				}
 			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while building layers", e);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException) {
+				throw (RuntimeException) e.getCause();
+			}
+			throw new IllegalStateException("Unable to build layer", e.getCause());
 		}
-
-		return s;
+		return layers;
 	}
 
 	/**
@@ -226,49 +294,20 @@ public class Network {
 	 * @return Schedule weight
 	 */
 	public int getScheduleWeight(Schedule s) {
-		ArrayList<ArrayList<Integer[]>> days = s.getDays();
-		int[][] weights = clone2DArr(network);
-		int max = getMax(weights);
-		int iterations = 2;
-		while (iterations > 0) {
-			for (ArrayList<Integer[]> day : days) {
-				for (int i = 0; i < weights.length - 1; i++) {
-					for (int j = i + 1; j < weights.length; j++) {
-						weights[i][j] += network[i][j];
-						weights[j][i] = weights[i][j];
-					}
-				}
-				for (Integer[] meetup : day) {
-					weights[meetup[0]][meetup[1]] = network[meetup[0]][meetup[1]];
-				}
-				int newMax = getMax(weights);
-				if (newMax > max) {
-					max = newMax;
-				}
-			}
-			iterations--;
-		}
-
-		return max;
+		return getStrain(s).getMaximum();
 	}
 
 	/**
-	 * Clone square network arrays
+	 * Find the strain on every relationship
 	 *
-	 * @return Deep clone of array
+	 * @param s Schedule to evaluate
+	 * @return Strain of the schedule
 	 */
-	private int[][] clone2DArr(int[][] arr) {
-		int len = arr.length;
-		int[][] clone = new int[len][];
-		for(int i = 0; i < len; i++) {
-			clone[i] = new int[len];
-
-			for(int j = 0; j < len; j++) {
-				clone[i][j] = arr[i][j];
-			}
-		}
-
-		return clone;
+	public Strain getStrain(Schedule s) {
+		PhaseEvent timer = Metrics.begin(Metrics.WEIGHT);
+		Strain strain = new Strain(graph, s);
+		Metrics.end(timer);
+		return strain;
 	}
 
 	/**
@@ -277,19 +316,6 @@ public class Network {
 	 * @return Pretty string
 	 */
 	public String toString() {
-		String str = "";
-		int len = network.length;
-		for(int i = 0; i < len; i++) {
-			int[] var6 = network[i];
-
-			for(int j = 0; j < len; j++) {
-				int var9 = var6[j];
-				str = str + var9 + "  ";
-			}
-
-			str = str + "\n";
-		}
-
-		return str;
+		return ScheduleWriter.matrix(graph, null);
 	}
 }
@@ -0,0 +1,334 @@
+/**
+ * Purpose	Profile of a network found in a single pass over its
+ * 		relationships
+ * Status	Finished
+ * Last Update	10/17/26
+ * Submitted	N/A
+ * Comment	All code is my own original work
+ *
+ * Holds the degree of every individual and a histogram of degrees, the
+ * lightest relationship of every individual, the maximum weight, and
+ * the bounds built from them. Profiling keeps plain maximums, so it
+ * allocates nothing per relationship. Relationships can be added and
+ * removed afterwards; degrees are counted in O(1), and weights and
+ * bounds are kept in counted sorted maps so every change costs
+ * O(log n). The maps, like the per-individual weight maps, are only
+ * built on the first change.
+ *
+ * @author	Alaina Iris
+ * @version	2026.10.17
+ */
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.TreeMap;
+
+public class NetworkStats {
+	private int size;
+	private int edges;
+	private int[] degree;
+	private int[] histogram;
+	private int maxDegree;
+	private int[] minWeight;
+	// Largest weight and degree times lightest weight, until the first change
+	private int maxWeight;
+	private int maxRun;
+	// Counts of weights, and of degree times lightest weight for the
+	// lower bound, with the weights of each individual, built on the
+	// first change
+	private TreeMap<Integer, Integer> weights;
+	private TreeMap<Integer, Integer> runs;
+	private Graph graph;
+	private ArrayList<TreeMap<Integer, Integer>> vertexWeights;
+
+	/**
+	 * Profile a graph
+	 *
+	 * @param graph Relationships to profile
+	 */
+	public NetworkStats(Graph graph) {
+		this.graph = graph;
+		size = graph.size();
+		edges = graph.getEdgeCount();
+		degree = new int[size];
+		histogram = new int[size + 1];
+		minWeight = new int[size];
+		for (int v = 0; v < size; v++) {
+			degree[v] = graph.degree(v);
+			histogram[degree[v]]++;
+			maxDegree = Math.max(maxDegree, degree[v]);
+			int lowest = 0;
+			for (int slot = graph.start(v); slot < graph.end(v); slot++) {
+				int w = graph.weightAt(slot);
+				if (lowest == 0 || w < lowest) {
+					lowest = w;
+				}
+				maxWeight = Math.max(maxWeight, w);
+			}
+			minWeight[v] = lowest;
+			maxRun = Math.max(maxRun, degree[v] * lowest);
+		}
+	}
+
+	/**
+	 * Count a new relationship
+	 *
+	 * @param u First individual
+	 * @param v Second individual
+	 * @param w Weight of the relationship
+	 */
+	public void add(int u, int v, int w) {
+		if (vertexWeights == null) {
+			buildVertexWeights();
+		}
+		edges++;
+		weights.merge(w, 1, Integer::sum);
+		for (int x : new int[] {u, v}) {
+			leave(x);
+			setDegree(x, degree[x] + 1);
+			vertexWeights.get(x).merge(w, 1, Integer::sum);
+			if (minWeight[x] == 0 || w < minWeight[x]) {
+				minWeight[x] = w;
+			}
+			join(x);
+		}
+	}
+
+	/**
+	 * Stop counting a relationship
+	 *
+	 * @param u First individual
+	 * @param v Second individual
+	 * @param w Weight of the relationship
+	 */
+	public void remove(int u, int v, int w) {
+		if (vertexWeights == null) {
+			buildVertexWeights();
+		}
+		edges--;
+		decrement(weights, w);
+		for (int x : new int[] {u, v}) {
+			leave(x);
+			setDegree(x, degree[x] - 1);
+			TreeMap<Integer, Integer> own = vertexWeights.get(x);
+			decrement(own, w);
+			minWeight[x] = own.isEmpty() ? 0 : own.firstKey();
+			join(x);
+		}
+	}
+
+	/**
+	 * Count a change of weight
+	 *
+	 * @param u First individual
+	 * @param v Second individual
+	 * @param old Old weight
+	 * @param w New weight
+	 */
+	public void update(int u, int v, int old, int w) {
+		remove(u, v, old);
+		add(u, v, w);
+	}
+
+	/**
+	 * Get the number of individuals
+	 *
+	 * @return Number of individuals
+	 */
+	public int getSize() {
+		return size;
+	}
+
+	/**
+	 * Get the number of relationships
+	 *
+	 * @return Number of relationships
+	 */
+	public int getEdgeCount() {
+		return edges;
+	}
+
+	/**
+	 * Get the number of relationships an individual has
+	 *
+	 * @param v Individual
+	 * @return Degree
+	 */
+	public int getDegree(int v) {
+		return degree[v];
+	}
+
+	/**
+	 * Get max # of relationships a person has
+	 *
+	 * @return maximum degree
+	 */
+	public int getMaxDegree() {
+		return maxDegree;
+	}
+
+	/**
+	 * Get how many individuals have each degree
+	 *
+	 * @return Count of individuals, indexed by degree up to the maximum
+	 */
+	public int[] getDegreeHistogram() {
+		return Arrays.copyOf(histogram, maxDegree + 1);
+	}
+
+	/**
+	 * Get the maximum weight of a relationship
+	 *
+	 * @return Maximum weight, 0 with no relationships
+	 */
+	public int getMaxWeight() {
+		if (weights == null) {
+			return maxWeight;
+		}
+		return weights.isEmpty() ? 0 : weights.lastKey();
+	}
+
+	/**
+	 * Get the lightest relationship of an individual
+	 *
+	 * @param v Individual
+	 * @return Lightest weight, 0 with no relationships
+	 */
+	public int getMinWeight(int v) {
+		return minWeight[v];
+	}
+
+	/**
+	 * Get the minimum possible optimal schedule weight, the larger of
+	 * the maximum weight and any individual's degree times their
+	 * lightest weight
+	 *
+	 * @return Best case of schedule weight
+	 */
+	public int getLowerBound() {
+		int bound = getMaxWeight();
+		if (runs == null) {
+			return Math.max(bound, maxRun);
+		}
+		if (!runs.isEmpty() && runs.lastKey() > bound) {
+			bound = runs.lastKey();
+		}
+		return bound;
+	}
+
+	/**
+	 * Get the number of layers to make
+	 *
+	 * @return Layers to make
+	 */
+	public int getLayers() {
+		return layers(maxDegree);
+	}
+
+	/**
+	 * Get the number of layers to make for a maximum degree
+	 *
+	 * @param maximum Maximum degree
+	 * @return Layers to make
+	 */
+	public static int layers(int maximum) {
+		int degree = (maximum + 1) / 3;
+		int count;
+		for(count = 0; degree >= 2; degree /= 2) {
+			count++;
+		}
+		return count;
+	}
+
+	/**
+	 * Get the maximum bound of our approximation, the lower bound
+	 * times lg(|V|^3)
+	 *
+	 * @return Maximum bound for approximation
+	 */
+	public int getApproximationLimit() {
+		long cube = (long) size * size * size;
+		int count = 0;
+		while (cube >= 2) {
+			count++;
+			cube /= 2;
+		}
+		return getLowerBound() * count;
+	}
+
+	/**
+	 * Take an individual out of the lower bound counts
+	 *
+	 * @param v Individual
+	 */
+	private void leave(int v) {
+		if (degree[v] > 0) {
+			decrement(runs, degree[v] * minWeight[v]);
+		}
+	}
+
+	/**
+	 * Put an individual back into the lower bound counts
+	 *
+	 * @param v Individual
+	 */
+	private void join(int v) {
+		if (degree[v] > 0) {
+			runs.merge(degree[v] * minWeight[v], 1, Integer::sum);
+		}
+	}
+
+	/**
+	 * Change the degree of an individual, keeping the histogram and
+	 * maximum degree
+	 *
+	 * @param v Individual
+	 * @param d New degree
+	 */
+	private void setDegree(int v, int d) {
+		histogram[degree[v]]--;
+		degree[v] = d;
+		histogram[d]++;
+		if (d > maxDegree) {
+			maxDegree = d;
+		}
+		while (maxDegree > 0 && histogram[maxDegree] == 0) {
+			maxDegree--;
+		}
+	}
+
+	/**
+	 * Build the counted weights, of the whole graph and of every
+	 * individual, and the lower bound counts from the starting graph
+	 */
+	private void buildVertexWeights() {
+		weights = new TreeMap<Integer, Integer>();
+		runs = new TreeMap<Integer, Integer>();
+		vertexWeights = new ArrayList<TreeMap<Integer, Integer>>();
+		for (int v = 0; v < size; v++) {
+			TreeMap<Integer, Integer> own = new TreeMap<Integer, Integer>();
+			for (int slot = graph.start(v); slot < graph.end(v); slot++) {
+				own.merge(graph.weightAt(slot), 1, Integer::sum);
+				// Every relationship is seen from both ends
+				if (v < graph.neighbor(slot)) {
+					weights.merge(graph.weightAt(slot), 1, Integer::sum);
+				}
+			}
+			vertexWeights.add(own);
+			join(v);
+		}
+		graph = null;
+	}
+
+	/**
+	 * Remove one count of a key
+	 *
+	 * @param counts Counted keys
+	 * @param key Key to remove
+	 */
+	private static void decrement(TreeMap<Integer, Integer> counts, int key) {
+		if (counts.merge(key, -1, Integer::sum) == 0) {
+			counts.remove(key);
+		}
+	}
+}
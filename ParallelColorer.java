@@ -0,0 +1,289 @@
+/**
+ * Purpose	Multi-threaded edge coloring for very large layers
+ * Status	Finished
+ * Last Update	10/17/26
+ * Submitted	N/A
+ * Comment	All code is my own original work
+ *
+ * Individuals are split into blocks of consecutive ids holding about
+ * the same number of relationships, and the relationships inside each
+ * block are colored at the same time by AutoColorer. Relationships
+ * between blocks are then colored greedily in rounds, pairing the
+ * blocks round-robin so the pairs of one round share no individuals
+ * and need no locks. A boundary relationship with no color free on both
+ * ends within Δ+1 is left for Misra & Gries to finish in order, so the
+ * layer never uses more than Δ+1 colors, no extra colors over a
+ * sequential coloring. Blocks and rounds are fixed by the number of
+ * parts, so the coloring is the same on every run.
+ *
+ * @author	Alaina Iris
+ * @version	2026.10.17
+ */
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+public class ParallelColorer implements EdgeColorer {
+	// Layers with fewer relationships are colored on one thread
+	public static final int MIN_EDGES = 1 << 16;
+	private ExecutorService executor;
+	private int parts;
+	private int leftover;
+
+	/**
+	 * Create a colorer using two blocks for each thread of an executor
+	 *
+	 * @param executor Executor to color blocks on
+	 */
+	public ParallelColorer(ExecutorService executor) {
+		this(executor, 2 * (executor instanceof ForkJoinPool ?
+			((ForkJoinPool) executor).getParallelism() :
+			Runtime.getRuntime().availableProcessors()));
+	}
+
+	/**
+	 * Create a colorer with a given number of blocks
+	 *
+	 * @param executor Executor to color blocks on
+	 * @param parts Number of blocks, at least 2
+	 */
+	public ParallelColorer(ExecutorService executor, int parts) {
+		if (parts < 2) {
+			throw new IllegalArgumentException("Need at least 2 blocks, got " + parts);
+		}
+		this.executor = executor;
+		this.parts = parts;
+	}
+
+	/**
+	 * Color every edge of a graph
+	 *
+	 * @param graph Relationships to color
+	 * @return Color of every edge, from 1 to at most Δ+1
+	 */
+	public int[] color(Graph graph) {
+		int size = graph.size();
+		int count = graph.getEdgeCount();
+		int max = 0;
+		for (int v = 0; v < size; v++) {
+			max = Math.max(max, graph.degree(v));
+		}
+		int palette = max + 1;
+		int words = (palette + 64) >>> 6;
+		// Cut blocks of consecutive individuals at equal shares of the slots
+		int[] block = new int[size];
+		int[] bounds = new int[parts + 1];
+		long slots = 0;
+		int b = 0;
+		for (int v = 0; v < size; v++) {
+			while (b < parts - 1 && slots >= 2L * count * (b + 1) / parts) {
+				bounds[++b] = v;
+			}
+			block[v] = b;
+			slots += graph.degree(v);
+		}
+		while (b < parts) {
+			bounds[++b] = size;
+		}
+		// Edges are sorted by lower individual, so each block's
+		// edges start where its first individual's edges start
+		int[] edgeStart = new int[parts + 1];
+		for (int e = 0; e < count; e++) {
+			edgeStart[block[graph.getFirst(e)] + 1]++;
+		}
+		for (int i = 0; i < parts; i++) {
+			edgeStart[i + 1] += edgeStart[i];
+		}
+		int[] colors = new int[count];
+		long[] used = new long[size * words];
+		ArrayList<Callable<Void>> tasks = new ArrayList<Callable<Void>>();
+		for (int i = 0; i < parts; i++) {
+			int index = i;
+			tasks.add(() -> {
+				colorBlock(graph, bounds[index], bounds[index + 1], edgeStart[index], edgeStart[index + 1], colors, used, words);
+				return null;
+			});
+		}
+		run(tasks);
+		// Group boundary edges by their pair of blocks
+		int[] pairStart = new int[parts * parts + 1];
+		for (int e = 0; e < count; e++) {
+			int bi = block[graph.getFirst(e)];
+			int bj = block[graph.getSecond(e)];
+			if (bi != bj) {
+				pairStart[bi * parts + bj + 1]++;
+			}
+		}
+		for (int i = 0; i < parts * parts; i++) {
+			pairStart[i + 1] += pairStart[i];
+		}
+		int[] pairEdges = new int[pairStart[parts * parts]];
+		int[] next = new int[parts * parts];
+		System.arraycopy(pairStart, 0, next, 0, next.length);
+		for (int e = 0; e < count; e++) {
+			int bi = block[graph.getFirst(e)];
+			int bj = block[graph.getSecond(e)];
+			if (bi != bj) {
+				pairEdges[next[bi * parts + bj]++] = e;
+			}
+		}
+		// Round-robin over the blocks, with a bye when the count is odd
+		int teams = parts + (parts & 1);
+		for (int round = 0; round < teams - 1; round++) {
+			tasks = new ArrayList<Callable<Void>>();
+			for (int i = 0; i < teams / 2; i++) {
+				int x = (round + i) % (teams - 1);
+				int y = i == 0 ? teams - 1 : (round + teams - 1 - i) % (teams - 1);
+				if (x >= parts || y >= parts) {
+					continue;
+				}
+				int pair = Math.min(x, y) * parts + Math.max(x, y);
+				tasks.add(() -> {
+					colorBoundary(graph, pairEdges, pairStart[pair], pairStart[pair + 1], colors, used, words, palette);
+					return null;
+				});
+			}
+			run(tasks);
+		}
+		leftover = 0;
+		for (int color : colors) {
+			if (color == 0) {
+				leftover++;
+			}
+		}
+		if (leftover == 0) {
+			return colors;
+		}
+		MisraGries engine = new MisraGries(graph);
+		engine.setColors(colors);
+		engine.colorAll();
+		return engine.getColors();
+	}
+
+	/**
+	 * Get the name of the strategy for reports
+	 *
+	 * @return Strategy name
+	 */
+	public String getName() {
+		return "Parallel";
+	}
+
+	/**
+	 * Get the number of boundary edges left for Misra & Gries by the
+	 * last coloring
+	 *
+	 * @return Edges colored in order
+	 */
+	public int getLeftover() {
+		return leftover;
+	}
+
+	/**
+	 * Color the edges inside a block. Blocks share no individuals, so
+	 * each block writes only its own colors and bits.
+	 *
+	 * @param graph Relationships to color
+	 * @param lo First individual of the block
+	 * @param hi End of the block's individuals
+	 * @param from First edge with its lower end in the block
+	 * @param to End of the edges with their lower end in the block
+	 * @param colors Color of every edge
+	 * @param used Used color bitsets of every individual
+	 * @param words Words per bitset
+	 */
+	private static void colorBlock(Graph graph, int lo, int hi, int from, int to,
+			int[] colors, long[] used, int words) {
+		int inside = 0;
+		for (int e = from; e < to; e++) {
+			if (graph.getSecond(e) < hi) {
+				inside++;
+			}
+		}
+		int[] ids = new int[inside];
+		int[] first = new int[inside];
+		int[] second = new int[inside];
+		int[] weights = new int[inside];
+		int k = 0;
+		for (int e = from; e < to; e++) {
+			if (graph.getSecond(e) < hi) {
+				ids[k] = e;
+				first[k] = graph.getFirst(e) - lo;
+				second[k] = graph.getSecond(e) - lo;
+				weights[k] = 1;
+				k++;
+			}
+		}
+		int[] local = new AutoColorer().color(Graph.fromSortedEdges(hi - lo, first, second, weights));
+		for (int i = 0; i < inside; i++) {
+			int e = ids[i];
+			int color = local[i];
+			colors[e] = color;
+			used[graph.getFirst(e) * words + (color >>> 6)] |= 1L << color;
+			used[graph.getSecond(e) * words + (color >>> 6)] |= 1L << color;
+		}
+	}
+
+	/**
+	 * Greedily color the edges between two blocks within the palette,
+	 * leaving an edge uncolored when no color is free on both ends
+	 *
+	 * @param graph Relationships to color
+	 * @param pairEdges Boundary edges grouped by pair of blocks
+	 * @param from First edge of the pair
+	 * @param to End of the edges of the pair
+	 * @param colors Color of every edge
+	 * @param used Used color bitsets of every individual
+	 * @param words Words per bitset
+	 * @param palette Highest color allowed
+	 */
+	private static void colorBoundary(Graph graph, int[] pairEdges, int from, int to,
+			int[] colors, long[] used, int words, int palette) {
+		for (int k = from; k < to; k++) {
+			int e = pairEdges[k];
+			int u = graph.getFirst(e) * words;
+			int v = graph.getSecond(e) * words;
+			for (int i = 0; i < words; i++) {
+				long bits = ~(used[u + i] | used[v + i]);
+				if (i == 0) {
+					bits &= ~1L;
+				}
+				if (bits != 0) {
+					int color = (i << 6) + Long.numberOfTrailingZeros(bits);
+					if (color <= palette) {
+						colors[e] = color;
+						used[u + i] |= 1L << color;
+						used[v + i] |= 1L << color;
+					}
+					break;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Run tasks on the executor and wait for all of them
+	 *
+	 * @param tasks Tasks to run
+	 */
+	private void run(List<Callable<Void>> tasks) {
+		try {
+			for (Future<Void> future : executor.invokeAll(tasks)) {
+				future.get();
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while coloring", e);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException) {
+				throw (RuntimeException) e.getCause();
+			}
+			throw new IllegalStateException("Unable to color block", e.getCause());
+		}
+	}
+}
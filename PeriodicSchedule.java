@@ -0,0 +1,209 @@
+/**
+ * Purpose	Interleaved schedule of layers, worked out day by day
+ * 		instead of stored
+ * Status	Finished
+ * Last Update	10/17/26
+ * Submitted	N/A
+ * Comment	All code is my own original work
+ *
+ * Interleaving a layer of m days over n days built so far puts the
+ * layer's days on the even days 0, 2, .., 2n - 2, cycling them if m is
+ * smaller than n, the earlier days on the odd days, and any of the
+ * layer's days left over after day 2n. So day k of the whole schedule
+ * is found by walking in from the heaviest layer: an even day, or a day
+ * past 2n, belongs to that layer, and an odd day k is day (k - 1) / 2
+ * of the lighter layers. Each lighter layer halves the day again, so
+ * day d of the layer i steps in lands on day (d << i) + (1 << i) - 1,
+ * and the whole order can be filled in one pass.
+ *
+ * Pool days are numbered as in Schedule.interleave, pool day p of layer
+ * i being p plus the pool sizes of the layers before it. The view keeps
+ * the layer schedules, so they should not change while it is used.
+ *
+ * @author	Alaina Iris
+ * @version	2026.10.17
+ */
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+public class PeriodicSchedule {
+	private Schedule[] layers;
+	private String[] names;
+	// First pool day of each layer
+	private int[] base;
+	// Layers with days, heaviest first, and the days built before each
+	private int[] level;
+	private int[] inner;
+	private int length;
+
+	/**
+	 * Create a view of interleaved layer schedules
+	 *
+	 * @param layers Layer schedules, heaviest first
+	 * @param names Names of individuals for printing
+	 */
+	public PeriodicSchedule(ArrayList<Schedule> layers, String[] names) {
+		this.layers = layers.toArray(new Schedule[0]);
+		this.names = names;
+		base = new int[this.layers.length + 1];
+		int levels = 0;
+		for (int i = 0; i < this.layers.length; i++) {
+			base[i + 1] = base[i] + this.layers[i].getPoolSize();
+			if (this.layers[i].size() > 0) {
+				levels++;
+			}
+		}
+		level = new int[levels];
+		inner = new int[levels];
+		for (int i = this.layers.length - 1; i >= 0; i--) {
+			int days = this.layers[i].size();
+			if (days > 0) {
+				levels--;
+				level[levels] = i;
+				inner[levels] = length;
+				length += Math.max(length, days);
+			}
+		}
+	}
+
+	/**
+	 * Get the length of one period of the schedule
+	 *
+	 * @return Schedule size
+	 */
+	public int size() {
+		return length;
+	}
+
+	/**
+	 * Get the pool day used on a day of the schedule. Days past the end
+	 * wrap around, as the schedule repeats.
+	 *
+	 * @param day Day of the schedule, from 0
+	 * @return Pool day
+	 */
+	public int getDay(long day) {
+		if (length == 0) {
+			throw new IllegalArgumentException("The schedule has no days");
+		}
+		int k = (int) Math.floorMod(day, (long) length);
+		for (int j = 0; ; j++) {
+			Schedule layer = layers[level[j]];
+			if (k >= 2 * inner[j]) {
+				return base[level[j]] + layer.getDay(inner[j] + k - 2 * inner[j]);
+			}
+			if ((k & 1) == 0) {
+				return base[level[j]] + layer.getDay((k >>> 1) % layer.size());
+			}
+			k >>>= 1;
+		}
+	}
+
+	/**
+	 * Get the pool day of every day of one period, in one pass over
+	 * the layers
+	 *
+	 * @return Pool day of each day
+	 */
+	public int[] getOrder() {
+		int[] order = new int[length];
+		for (int j = 0; j < level.length; j++) {
+			Schedule layer = layers[level[j]];
+			int offset = (1 << j) - 1;
+			int days = layer.size();
+			for (int d = 0; d < inner[j]; d++) {
+				order[(2 * d << j) + offset] = base[level[j]] + layer.getDay(d % days);
+			}
+			for (int d = inner[j]; d < days; d++) {
+				order[(inner[j] + d << j) + offset] = base[level[j]] + layer.getDay(d);
+			}
+		}
+		return order;
+	}
+
+	/**
+	 * Get the number of distinct days across the layers
+	 *
+	 * @return Pool size
+	 */
+	public int getPoolSize() {
+		return base[layers.length];
+	}
+
+	/**
+	 * Get the number of meetups in a pool day
+	 *
+	 * @param p Pool day
+	 * @return Number of meetups
+	 */
+	public int getMeetupCount(int p) {
+		int i = layerOf(p);
+		return layers[i].getMeetupCount(p - base[i]);
+	}
+
+	/**
+	 * Get the first individual of a meetup
+	 *
+	 * @param p Pool day
+	 * @param m Index of the meetup in the day
+	 * @return First individual
+	 */
+	public int getFirst(int p, int m) {
+		int i = layerOf(p);
+		return layers[i].getFirst(p - base[i], m);
+	}
+
+	/**
+	 * Get the second individual of a meetup
+	 *
+	 * @param p Pool day
+	 * @param m Index of the meetup in the day
+	 * @return Second individual
+	 */
+	public int getSecond(int p, int m) {
+		int i = layerOf(p);
+		return layers[i].getSecond(p - base[i], m);
+	}
+
+	/**
+	 * Get the names of individuals
+	 *
+	 * @return Names, null if none were given
+	 */
+	public String[] getNames() {
+		return names;
+	}
+
+	/**
+	 * Copy the view into a schedule
+	 *
+	 * @return Interleaved schedule
+	 */
+	public Schedule toSchedule() {
+		return Schedule.interleave(new ArrayList<Schedule>(Arrays.asList(layers)), names);
+	}
+
+	/**
+	 * Find the layer holding a pool day
+	 *
+	 * @param p Pool day
+	 * @return Layer index
+	 */
+	private int layerOf(int p) {
+		if (p < 0 || p >= base[layers.length]) {
+			throw new IllegalArgumentException("Pool day " + p + " does not exist");
+		}
+		int low = 0;
+		int high = layers.length - 1;
+		while (low < high) {
+			int mid = (low + high + 1) >>> 1;
+			if (base[mid] <= p) {
+				low = mid;
+			} else {
+				high = mid - 1;
+			}
+		}
+		return low;
+	}
+}
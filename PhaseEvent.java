@@ -0,0 +1,60 @@
+/**
+ * Purpose	Flight Recorder event for one phase of scheduling
+ * Status	Finished
+ * Last Update	10/17/26
+ * Submitted	N/A
+ * Comment	All code is my own original work
+ *
+ * Doubles as the timer Metrics hands out, so a phase is only timed once
+ * for both the counters and the recording.
+ *
+ * @author	Alaina Iris
+ * @version	2026.10.17
+ */
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("network.Phase")
+@Label("Scheduler Phase")
+@Category("Network Scheduling")
+@Description("Time spent in one phase of building a schedule")
+public class PhaseEvent extends jdk.jfr.Event {
+	@Label("Phase")
+	private String phase;
+	// Not recorded, only used by Metrics
+	private transient int index;
+	private transient long start;
+
+	/**
+	 * Create an event for a phase, starting its timer
+	 *
+	 * @param index Phase number from Metrics
+	 * @param phase Phase name
+	 */
+	public PhaseEvent(int index, String phase) {
+		this.index = index;
+		this.phase = phase;
+		start = System.nanoTime();
+	}
+
+	/**
+	 * Get the phase number
+	 *
+	 * @return Phase number from Metrics
+	 */
+	public int getPhase() {
+		return index;
+	}
+
+	/**
+	 * Get the time since the event was created
+	 *
+	 * @return Nanoseconds elapsed
+	 */
+	public long getElapsed() {
+		return System.nanoTime() - start;
+	}
+}
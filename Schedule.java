@@ -1,24 +1,43 @@
 /**
  * Status	Finished
- * Last Update	01/04/25
+ * Last Update	10/17/26
  * Submitted	N/A
  * Comment	All code is my own original work
- * 
+ *
+ * Meetups are packed two to a long, with the first individual in the
+ * high 32 bits. Layers repeat their days, so each distinct day is kept
+ * once in a pool and the schedule is a list of pool days. Pool days
+ * have some spare room so meetups can be added and removed in place.
+ *
  * @author	Alaina Iris
- * @version	2025.01.04
+ * @version	2026.10.17
  */
 
 import java.util.ArrayList;
+import java.util.Arrays;
 
 public class Schedule {
-	private ArrayList<ArrayList<Integer[]>> schedule;
+	// Pool of distinct days, day p is meetups[dayStart[p] .. + dayCount[p])
+	private long[] meetups;
+	private int used;
+	private int[] dayStart;
+	private int[] dayCount;
+	private int[] dayCapacity;
+	private int pool;
+	// Pool day of each day of the schedule
+	private int[] order;
+	private int length;
 	private String[] names;
 
 	/**
 	 * Create a new schedule
 	 */
 	public Schedule() {
-		schedule = new ArrayList<ArrayList<Integer[]>>();
+		meetups = new long[16];
+		dayStart = new int[16];
+		dayCount = new int[16];
+		dayCapacity = new int[16];
+		order = new int[16];
 	}
 
 	/**
@@ -27,17 +46,75 @@ public class Schedule {
 	 * @param names Names of individuals for printing
 	 */
 	public Schedule(String[] names) {
-		schedule = new ArrayList<ArrayList<Integer[]>>();
+		this();
 		this.names = names;
 	}
 
 	/**
-	 * Get the days planned in the schedule
+	 * Interleave layer schedules, starting from the last (lightest)
+	 * layer. Each heavier layer takes every other day of what has been
+	 * built so far, cycling its own days if it is shorter, and adds its
+	 * remaining days at the end. Layers with no days are skipped. Pool
+	 * days of each layer are copied in layer order, so pool day p of
+	 * layer i becomes p plus the pool sizes of the layers before it.
+	 * The final day of every layer day is worked out by
+	 * PeriodicSchedule, so the order is written in one pass, and the
+	 * pool is sized once for every layer's meetups.
+	 *
+	 * @param layers Layer schedules, heaviest first
+	 * @param names Names of individuals for printing
+	 * @return Interleaved schedule
+	 */
+	public static Schedule interleave(ArrayList<Schedule> layers, String[] names) {
+		Schedule s = new Schedule(names);
+		int pools = 0;
+		int total = 0;
+		for (Schedule layer : layers) {
+			pools += layer.pool;
+			for (int p = 0; p < layer.pool; p++) {
+				total += layer.dayCount[p];
+			}
+		}
+		s.meetups = new long[Math.max(16, total)];
+		s.dayStart = new int[Math.max(16, pools)];
+		s.dayCount = new int[s.dayStart.length];
+		s.dayCapacity = new int[s.dayStart.length];
+		for (Schedule layer : layers) {
+			for (int p = 0; p < layer.pool; p++) {
+				int copy = s.addPoolDay(layer.dayCount[p]);
+				System.arraycopy(layer.meetups, layer.dayStart[p], s.meetups, s.dayStart[copy], layer.dayCount[p]);
+				s.dayCount[copy] = layer.dayCount[p];
+			}
+		}
+		s.order = new PeriodicSchedule(layers, names).getOrder();
+		s.length = s.order.length;
+		if (s.order.length == 0) {
+			s.order = new int[16];
+		}
+		return s;
+	}
+
+	/**
+	 * Get the days planned in the schedule. The lists are built on each
+	 * call, with repeated days sharing one list; changing them does not
+	 * change the schedule.
 	 *
 	 * @return Schedule days
 	 */
 	public ArrayList<ArrayList<Integer[]>> getDays() {
-		return schedule;
+		ArrayList<ArrayList<Integer[]>> days = new ArrayList<ArrayList<Integer[]>>();
+		ArrayList<ArrayList<Integer[]>> lists = new ArrayList<ArrayList<Integer[]>>();
+		for (int p = 0; p < pool; p++) {
+			ArrayList<Integer[]> list = new ArrayList<Integer[]>();
+			for (int m = 0; m < dayCount[p]; m++) {
+				list.add(new Integer[] {getFirst(p, m), getSecond(p, m)});
+			}
+			lists.add(list);
+		}
+		for (int i = 0; i < length; i++) {
+			days.add(lists.get(order[i]));
+		}
+		return days;
 	}
 
 	/**
@@ -46,7 +123,7 @@ public class Schedule {
 	 * @param day Day to add
 	 */
 	public void add(ArrayList<Integer[]> day) {
-		schedule.add(day);
+		addDay(poolDay(day));
 	}
 
 	/**
@@ -56,7 +133,122 @@ public class Schedule {
 	 * @param day Day to add
 	 */
 	public void add(int index, ArrayList<Integer[]> day) {
-		schedule.add(index, day);
+		addDay(index, poolDay(day));
+	}
+
+	/**
+	 * Copy a list of meetups into a new pool day
+	 *
+	 * @param day Meetups of the day
+	 * @return Pool day
+	 */
+	private int poolDay(ArrayList<Integer[]> day) {
+		int p = addPoolDay(day.size());
+		for (Integer[] meetup : day) {
+			addMeetup(p, meetup[0], meetup[1]);
+		}
+		return p;
+	}
+
+	/**
+	 * Add an empty day to the pool
+	 *
+	 * @param capacity Number of meetups to make room for
+	 * @return Pool day
+	 */
+	public int addPoolDay(int capacity) {
+		if (pool == dayStart.length) {
+			dayStart = Arrays.copyOf(dayStart, pool * 2);
+			dayCount = Arrays.copyOf(dayCount, pool * 2);
+			dayCapacity = Arrays.copyOf(dayCapacity, pool * 2);
+		}
+		dayStart[pool] = reserve(capacity);
+		dayCount[pool] = 0;
+		dayCapacity[pool] = capacity;
+		return pool++;
+	}
+
+	/**
+	 * Add a meetup to a pool day, changing every day of the schedule
+	 * which uses it. Moves the pool day to the end of the pool with
+	 * twice the room when it is full.
+	 *
+	 * @param p Pool day
+	 * @param a First individual
+	 * @param b Second individual
+	 */
+	public void addMeetup(int p, int a, int b) {
+		if (dayCount[p] == dayCapacity[p]) {
+			int capacity = Math.max(4, dayCapacity[p] * 2);
+			int start = reserve(capacity);
+			System.arraycopy(meetups, dayStart[p], meetups, start, dayCount[p]);
+			dayStart[p] = start;
+			dayCapacity[p] = capacity;
+		}
+		meetups[dayStart[p] + dayCount[p]] = ((long) a << 32) | (b & 0xffffffffL);
+		dayCount[p]++;
+	}
+
+	/**
+	 * Remove a meetup from a pool day, moving the last meetup of the
+	 * day into its place
+	 *
+	 * @param p Pool day
+	 * @param i Index of the meetup in the day
+	 */
+	public void removeMeetup(int p, int i) {
+		dayCount[p]--;
+		meetups[dayStart[p] + i] = meetups[dayStart[p] + dayCount[p]];
+	}
+
+	/**
+	 * Make room at the end of the meetup array
+	 *
+	 * @param count Number of meetups
+	 * @return Start of the room
+	 */
+	private int reserve(int count) {
+		if (used + count > meetups.length) {
+			meetups = Arrays.copyOf(meetups, Math.max(meetups.length * 2, used + count));
+		}
+		used += count;
+		return used - count;
+	}
+
+	/**
+	 * Add a pool day to the end of the schedule
+	 *
+	 * @param p Pool day
+	 */
+	public void addDay(int p) {
+		addDay(length, p);
+	}
+
+	/**
+	 * Add a pool day to the schedule at a given index
+	 *
+	 * @param index Where to add the day
+	 * @param p Pool day
+	 */
+	public void addDay(int index, int p) {
+		if (p < 0 || p >= pool) {
+			throw new IllegalArgumentException("Pool day " + p + " does not exist");
+		}
+		if (length == order.length) {
+			order = Arrays.copyOf(order, length * 2);
+		}
+		System.arraycopy(order, index, order, index + 1, length - index);
+		order[index] = p;
+		length++;
+	}
+
+	/**
+	 * Get the names of individuals
+	 *
+	 * @return Names, null if none were given
+	 */
+	public String[] getNames() {
+		return names;
 	}
 
 	/**
@@ -65,7 +257,58 @@ public class Schedule {
 	 * @return Schedule size
 	 */
 	public int size() {
-		return schedule.size();
+		return length;
+	}
+
+	/**
+	 * Get the number of distinct days in the pool
+	 *
+	 * @return Pool size
+	 */
+	public int getPoolSize() {
+		return pool;
+	}
+
+	/**
+	 * Get the pool day used on a day of the schedule
+	 *
+	 * @param day Day of the schedule, from 0
+	 * @return Pool day
+	 */
+	public int getDay(int day) {
+		return order[day];
+	}
+
+	/**
+	 * Get the number of meetups in a pool day
+	 *
+	 * @param p Pool day
+	 * @return Number of meetups
+	 */
+	public int getMeetupCount(int p) {
+		return dayCount[p];
+	}
+
+	/**
+	 * Get the first individual of a meetup
+	 *
+	 * @param p Pool day
+	 * @param i Index of the meetup in the day
+	 * @return First individual
+	 */
+	public int getFirst(int p, int i) {
+		return (int) (meetups[dayStart[p] + i] >>> 32);
+	}
+
+	/**
+	 * Get the second individual of a meetup
+	 *
+	 * @param p Pool day
+	 * @param i Index of the meetup in the day
+	 * @return Second individual
+	 */
+	public int getSecond(int p, int i) {
+		return (int) meetups[dayStart[p] + i];
 	}
 
 	/**
@@ -74,25 +317,6 @@ public class Schedule {
 	 * @return Pretty Schedule
 	 */
 	public String toString() {
-		String str = "";
-		int dayNumber = 1;
-		for (ArrayList<Integer[]> day : schedule) {
-			str = str + "\nDAY #" + dayNumber + ":";
-			for (Integer[] meetup : day) {
-				String first;
-				String second;
-				if (names != null) {
-					first = names[meetup[0]];
-					second = names[meetup[1]];
-				} else {
-					first = "" + meetup[0];
-					second = "" + meetup[1];
-				}
-				str = str + "\n\t" + first
-					+ " and " + second + " meet";
-			}
-			dayNumber++;
-		}
-		return str;
+		return ScheduleWriter.text(this);
 	}
 }
@@ -0,0 +1,391 @@
+/**
+ * Purpose	On-disk cache of schedules keyed by a hash of the network
+ * Status	Finished
+ * Last Update	10/17/26
+ * Submitted	N/A
+ * Comment	All code is my own original work
+ *
+ * Each entry is one file named by the SHA-256 of the network's sorted
+ * relationships, its names and ALGORITHM, so a network read from any
+ * input format finds the same entry. Networks large enough to have
+ * groups split across the pool also hash the pool size when splitting
+ * is on, since their coloring depends on it. Bump ALGORITHM whenever
+ * scheduling changes.
+ *
+ * Layout, big endian with fixed widths so it can be read straight
+ * from a memory map:
+ *
+ * 	"NSCS", version, key			(2 ints, 32 bytes)
+ * 	pool days, days				(2 ints)
+ * 	meetups in each pool day		(pool ints)
+ * 	meetups, first in the high 32 bits	(longs)
+ * 	pool day of each day			(days ints)
+ *
+ * Entries are written to a temporary file and moved into place, so a
+ * reader never sees half an entry. Hits touch the file's modified time,
+ * and once the cache is over its size the least recently used entries
+ * are deleted. One cache can be shared by threads scheduling different
+ * networks.
+ *
+ * @author	Alaina Iris
+ * @version	2026.10.17
+ */
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.LongBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class ScheduleCache {
+	// Version of the scheduling algorithm, part of every key
+	public static final int ALGORITHM = 1;
+	private static final int MAGIC = 0x4e534353; // NSCS
+	private static final int VERSION = 1;
+	private static final String SUFFIX = ".sched";
+	private Path dir;
+	private long maxBytes;
+	private AtomicInteger hits = new AtomicInteger();
+	private AtomicInteger misses = new AtomicInteger();
+
+	/**
+	 * Open a cache in a directory, creating it if needed
+	 *
+	 * @param dir Directory of the cache
+	 * @param maxBytes Most bytes the entries may take
+	 * @throws IOException If the directory cannot be made
+	 */
+	public ScheduleCache(Path dir, long maxBytes) throws IOException {
+		if (maxBytes <= 0) {
+			throw new IllegalArgumentException("Cache size must be above 0, got " + maxBytes);
+		}
+		this.dir = dir;
+		this.maxBytes = maxBytes;
+		Files.createDirectories(dir);
+	}
+
+	/**
+	 * Get the schedule of a network from the cache, or make it and
+	 * store it. A cache that cannot be read or written never stops a
+	 * schedule from being made.
+	 *
+	 * @param n Network to schedule
+	 * @param executor Executor to build layers on, null to build them in order
+	 * @return Approximate optimized schedule
+	 */
+	public Schedule getSchedule(Network n, ExecutorService executor) {
+		return getSchedule(n, executor, false);
+	}
+
+	/**
+	 * Get the schedule of a network from the cache, or make it and
+	 * store it, optionally splitting very large groups across the
+	 * executor
+	 *
+	 * @param n Network to schedule
+	 * @param executor Executor to build layers on, null to build them in order
+	 * @param split True to color very large groups across the executor
+	 * @return Approximate optimized schedule
+	 */
+	public Schedule getSchedule(Network n, ExecutorService executor, boolean split) {
+		String key = key(n, executor, split);
+		Path file = dir.resolve(key + SUFFIX);
+		Schedule s = read(file, key, n.getNames());
+		if (s != null) {
+			hits.incrementAndGet();
+			return s;
+		}
+		misses.incrementAndGet();
+		s = n.optimizedSchedule(executor, split);
+		try {
+			write(file, key, s);
+			evict();
+		} catch (IOException e) {
+			// Keep the schedule even if it cannot be cached
+		}
+		return s;
+	}
+
+	/**
+	 * Get the number of schedules found in the cache
+	 *
+	 * @return Cache hits
+	 */
+	public int getHits() {
+		return hits.get();
+	}
+
+	/**
+	 * Get the number of schedules which had to be made
+	 *
+	 * @return Cache misses
+	 */
+	public int getMisses() {
+		return misses.get();
+	}
+
+	/**
+	 * Find the key of a network, the hex SHA-256 of its canonical form
+	 *
+	 * @param n Network to hash
+	 * @param executor Executor the schedule would be built on
+	 * @return Cache key
+	 */
+	public static String key(Network n, ExecutorService executor) {
+		return key(n, executor, false);
+	}
+
+	/**
+	 * Find the key of a network, the hex SHA-256 of its canonical form
+	 *
+	 * @param n Network to hash
+	 * @param executor Executor the schedule would be built on
+	 * @param split True if very large groups are colored across the executor
+	 * @return Cache key
+	 */
+	public static String key(Network n, ExecutorService executor, boolean split) {
+		MessageDigest digest;
+		try {
+			digest = MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256 is not available", e);
+		}
+		Graph g = n.getGraph();
+		ByteBuffer buffer = ByteBuffer.allocate(1 << 16);
+		buffer.putInt(MAGIC).putInt(ALGORITHM).putInt(g.size()).putInt(g.getEdgeCount());
+		// Splitting large groups depends on the pool size
+		boolean parallel = split && executor != null && g.getEdgeCount() >= ParallelColorer.MIN_EDGES;
+		buffer.putInt(!parallel ? 0 : executor instanceof ForkJoinPool ?
+			((ForkJoinPool) executor).getParallelism() : Runtime.getRuntime().availableProcessors());
+		String[] names = n.getNames();
+		buffer.putInt(names == null ? -1 : names.length);
+		if (names != null) {
+			for (String name : names) {
+				byte[] bytes = name.getBytes(StandardCharsets.UTF_8);
+				update(digest, buffer, 4);
+				buffer.putInt(bytes.length);
+				int i = 0;
+				while (i < bytes.length) {
+					update(digest, buffer, 1);
+					int count = Math.min(buffer.remaining(), bytes.length - i);
+					buffer.put(bytes, i, count);
+					i += count;
+				}
+			}
+		}
+		for (int e = 0; e < g.getEdgeCount(); e++) {
+			update(digest, buffer, 12);
+			buffer.putInt(g.getFirst(e)).putInt(g.getSecond(e)).putInt(g.getWeight(e));
+		}
+		buffer.flip();
+		digest.update(buffer);
+		StringBuilder hex = new StringBuilder();
+		for (byte b : digest.digest()) {
+			hex.append(Character.forDigit((b >> 4) & 0xf, 16)).append(Character.forDigit(b & 0xf, 16));
+		}
+		return hex.toString();
+	}
+
+	/**
+	 * Hash the buffer if it does not have room for more bytes
+	 *
+	 * @param digest Digest to update
+	 * @param buffer Buffer of bytes to hash
+	 * @param needed Bytes about to be put in the buffer
+	 */
+	private static void update(MessageDigest digest, ByteBuffer buffer, int needed) {
+		if (buffer.remaining() < needed) {
+			buffer.flip();
+			digest.update(buffer);
+			buffer.clear();
+		}
+	}
+
+	/**
+	 * Read an entry through a memory map and mark it as used
+	 *
+	 * @param file Entry file
+	 * @param key Key the entry must have
+	 * @param names Names of individuals for printing
+	 * @return Schedule, null if there is no good entry
+	 */
+	private static Schedule read(Path file, String key, String[] names) {
+		Schedule s;
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+			MappedByteBuffer map = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+			s = parse(map, key, names);
+		} catch (NoSuchFileException e) {
+			return null;
+		} catch (IOException | RuntimeException e) {
+			// A bad entry is dropped and made again
+			try {
+				Files.deleteIfExists(file);
+			} catch (IOException ignored) {
+				// Leave it for eviction
+			}
+			return null;
+		}
+		try {
+			Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis()));
+		} catch (IOException e) {
+			// Still a hit, it may only be evicted sooner
+		}
+		return s;
+	}
+
+	/**
+	 * Build a schedule from the bytes of an entry
+	 *
+	 * @param map Entry bytes
+	 * @param key Key the entry must have
+	 * @param names Names of individuals for printing
+	 * @return Schedule of the entry
+	 */
+	private static Schedule parse(ByteBuffer map, String key, String[] names) {
+		if (map.remaining() < 48 || map.getInt() != MAGIC || map.getInt() != VERSION) {
+			throw new IllegalArgumentException("Not a schedule cache entry");
+		}
+		byte[] stored = new byte[32];
+		map.get(stored);
+		for (int i = 0; i < 32; i++) {
+			if (Character.forDigit((stored[i] >> 4) & 0xf, 16) != key.charAt(2 * i) ||
+					Character.forDigit(stored[i] & 0xf, 16) != key.charAt(2 * i + 1)) {
+				throw new IllegalArgumentException("Cache entry has the wrong key");
+			}
+		}
+		int pool = map.getInt();
+		int length = map.getInt();
+		int[] counts = new int[pool];
+		map.asIntBuffer().get(counts);
+		map.position(map.position() + 4 * pool);
+		Schedule s = new Schedule(names);
+		LongBuffer meetups = map.asLongBuffer();
+		int total = 0;
+		for (int p = 0; p < pool; p++) {
+			if (counts[p] < 0) {
+				throw new IllegalArgumentException("Cache entry has a bad day");
+			}
+			s.addPoolDay(counts[p]);
+			for (int i = 0; i < counts[p]; i++) {
+				long m = meetups.get();
+				s.addMeetup(p, (int) (m >>> 32), (int) m);
+			}
+			total += counts[p];
+		}
+		map.position(map.position() + 8 * total);
+		for (int day = 0; day < length; day++) {
+			s.addDay(map.getInt());
+		}
+		return s;
+	}
+
+	/**
+	 * Write an entry to a temporary file and move it into place
+	 *
+	 * @param file Entry file
+	 * @param key Key of the entry
+	 * @param s Schedule to store
+	 * @throws IOException If the entry cannot be written
+	 */
+	private void write(Path file, String key, Schedule s) throws IOException {
+		Path temp = Files.createTempFile(dir, "entry", ".tmp");
+		try {
+			try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+				ByteBuffer buffer = ByteBuffer.allocateDirect(1 << 16);
+				buffer.putInt(MAGIC).putInt(VERSION);
+				for (int i = 0; i < 32; i++) {
+					buffer.put((byte) Integer.parseInt(key.substring(2 * i, 2 * i + 2), 16));
+				}
+				buffer.putInt(s.getPoolSize()).putInt(s.size());
+				for (int p = 0; p < s.getPoolSize(); p++) {
+					flush(buffer, channel, 4);
+					buffer.putInt(s.getMeetupCount(p));
+				}
+				for (int p = 0; p < s.getPoolSize(); p++) {
+					for (int i = 0; i < s.getMeetupCount(p); i++) {
+						flush(buffer, channel, 8);
+						buffer.putLong(((long) s.getFirst(p, i) << 32) | (s.getSecond(p, i) & 0xffffffffL));
+					}
+				}
+				for (int day = 0; day < s.size(); day++) {
+					flush(buffer, channel, 4);
+					buffer.putInt(s.getDay(day));
+				}
+				flush(buffer, channel, buffer.capacity());
+				channel.force(true);
+			}
+			try {
+				Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+			} catch (AtomicMoveNotSupportedException e) {
+				Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+			}
+		} finally {
+			Files.deleteIfExists(temp);
+		}
+	}
+
+	/**
+	 * Write out the buffer if it does not have room for more bytes
+	 *
+	 * @param buffer Buffer to write
+	 * @param channel Channel to write to
+	 * @param needed Bytes about to be put in the buffer
+	 * @throws IOException If the channel cannot be written
+	 */
+	private static void flush(ByteBuffer buffer, FileChannel channel, int needed) throws IOException {
+		if (buffer.remaining() < needed) {
+			buffer.flip();
+			while (buffer.hasRemaining()) {
+				channel.write(buffer);
+			}
+			buffer.clear();
+		}
+	}
+
+	/**
+	 * Delete the least recently used entries until the cache fits in
+	 * its size
+	 *
+	 * @throws IOException If the directory cannot be listed
+	 */
+	private void evict() throws IOException {
+		ArrayList<Path> files = new ArrayList<Path>();
+		ArrayList<long[]> info = new ArrayList<long[]>();
+		long total = 0;
+		try (DirectoryStream<Path> entries = Files.newDirectoryStream(dir, "*" + SUFFIX)) {
+			for (Path entry : entries) {
+				try {
+					long size = Files.size(entry);
+					info.add(new long[] {Files.getLastModifiedTime(entry).toMillis(), size, files.size()});
+					files.add(entry);
+					total += size;
+				} catch (NoSuchFileException e) {
+					// Deleted by another run
+				}
+			}
+		}
+		if (total <= maxBytes) {
+			return;
+		}
+		info.sort((a, b) -> Long.compare(a[0], b[0]));
+		for (int i = 0; i < info.size() && total > maxBytes; i++) {
+			Files.deleteIfExists(files.get((int) info.get(i)[2]));
+			total -= info.get(i)[1];
+		}
+	}
+}
@@ -0,0 +1,736 @@
+/**
+ * Purpose	Improve a finished schedule by local search within a time or
+ * 		iteration budget
+ * Status	Finished
+ * Last Update	10/17/26
+ * Submitted	N/A
+ * Comment	All code is my own original work
+ *
+ * Every relationship of a built schedule meets in exactly one pool day,
+ * so the strain of every relationship in a pool day is its weight times
+ * the longest cyclic gap between the days using that pool day. The
+ * maximum strain is then the largest heaviest weight times gap over the
+ * pool days, kept in a tree of pool days so it is found in O(1) and
+ * updated in O(log pools) when a move changes a few pool days. A move
+ * only changes the gaps or heaviest weights of the pool days it
+ * touches, so it is evaluated without going over the schedule again.
+ *
+ * Each search works on the pool day with the largest strain, and tries
+ * one of four moves: moving one of its days into the middle of its
+ * longest gap, using it in the middle of that gap in place of another
+ * pool day, swapping all of its days with another pool day's, or moving
+ * its heaviest relationship to the pool day where it would have the
+ * least strain out of those where neither individual meets anyone.
+ * Moves which make the maximum worse are undone, and ties are kept half
+ * the time so a search can walk along a plateau. A search which stops
+ * finding better schedules starts again from its best one, shaken by a
+ * few random day swaps.
+ *
+ * Searches are independent, each with its own seed, and every search
+ * keeps the best schedule it has found, so the best of them is always
+ * valid and can be returned whenever the budget runs out. With only an
+ * iteration budget the result is the same on every run with the same
+ * number of threads, unless a search reaches the lower bound and stops
+ * the others early.
+ *
+ * @author	Alaina Iris
+ * @version	2026.10.17
+ */
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+public class ScheduleImprover {
+	// Iterations between looks at the clock
+	private static final int CHECK = 64;
+	// Kinds of move
+	private static final int DAYS = 0;
+	private static final int REPLACE = 1;
+	private static final int CLASSES = 2;
+	private static final int EDGE = 3;
+
+	private Graph graph;
+	private Schedule schedule;
+	private int pools;
+	private int length;
+	// Pool day of each day, and of each relationship, -1 if it never meets
+	private int[] order;
+	private int[] edgePool;
+	// First individual of each relationship as the schedule has it
+	private int[] lead;
+	// Largest strain of relationships which never meet, which no move changes
+	private int unmet;
+	private boolean supported = true;
+	private int weight;
+
+	/**
+	 * Prepare to improve a schedule
+	 *
+	 * @param graph Relationships the schedule is for
+	 * @param s Schedule to improve
+	 */
+	public ScheduleImprover(Graph graph, Schedule s) {
+		this.graph = graph;
+		this.schedule = s;
+		pools = s.getPoolSize();
+		length = s.size();
+		order = new int[length];
+		for (int i = 0; i < length; i++) {
+			order[i] = s.getDay(i);
+		}
+		int edges = graph.getEdgeCount();
+		edgePool = new int[edges];
+		lead = new int[edges];
+		Arrays.fill(edgePool, -1);
+		for (int p = 0; p < pools; p++) {
+			for (int m = 0; m < s.getMeetupCount(p); m++) {
+				int e = graph.findEdge(s.getFirst(p, m), s.getSecond(p, m));
+				// A meetup which is not a relationship, or a relationship
+				// meeting in two pool days, does not fit the search
+				if (e < 0 || edgePool[e] >= 0) {
+					supported = false;
+				} else {
+					edgePool[e] = p;
+					lead[e] = s.getFirst(p, m);
+				}
+			}
+		}
+		for (int e = 0; e < edges; e++) {
+			if (edgePool[e] < 0) {
+				unmet = Math.max(unmet, graph.getWeight(e) * (2 * length + 1));
+			}
+		}
+		if (pools == 0) {
+			weight = unmet;
+		} else if (supported) {
+			// The same maximum Strain finds, from the pool days alone
+			Search probe = new Search(0);
+			probe.load(order, edgePool);
+			weight = probe.maximum();
+		} else {
+			weight = new Strain(graph, s).getMaximum();
+		}
+	}
+
+	/**
+	 * Get the maximum strain of the schedule being improved
+	 *
+	 * @return Schedule weight
+	 */
+	public int getWeight() {
+		return weight;
+	}
+
+	/**
+	 * Search for a better schedule until the budget runs out or the
+	 * bound is reached, running one search on the calling thread with no
+	 * executor, or one per thread of the executor
+	 *
+	 * @param millis Time budget in milliseconds, 0 for none
+	 * @param iterations Iteration budget of each search, 0 for none
+	 * @param bound Weight no schedule can beat, where searching stops
+	 * @param executor Executor to search on, null to search on this thread
+	 * @return Best schedule found, the original if none was better
+	 */
+	public Schedule improve(long millis, long iterations, int bound, ExecutorService executor) {
+		if (millis < 0 || iterations < 0) {
+			throw new IllegalArgumentException("The budget cannot be negative");
+		}
+		if (millis == 0 && iterations == 0) {
+			throw new IllegalArgumentException("Need a time or iteration budget");
+		}
+		if (!supported || pools == 0 || length == 0 || weight <= bound || unmet >= weight) {
+			return schedule;
+		}
+		long deadline = millis == 0 ? Long.MAX_VALUE : System.nanoTime() + millis * 1000000;
+		AtomicBoolean done = new AtomicBoolean();
+		ArrayList<Search> searches = new ArrayList<Search>();
+		int starts = executor == null ? 1 : threads(executor);
+		for (int i = 0; i < starts; i++) {
+			searches.add(new Search(i));
+		}
+		if (executor == null) {
+			searches.get(0).run(deadline, iterations, bound, done);
+		} else {
+			ArrayList<Future<?>> futures = new ArrayList<Future<?>>();
+			for (Search search : searches) {
+				futures.add(executor.submit(() -> search.run(deadline, iterations, bound, done)));
+			}
+			try {
+				for (Future<?> future : futures) {
+					future.get();
+				}
+			} catch (InterruptedException e) {
+				// The searches see the flag and stop, and the best so far
+				// is still returned
+				done.set(true);
+				Thread.currentThread().interrupt();
+			} catch (ExecutionException e) {
+				done.set(true);
+				if (e.getCause() instanceof RuntimeException) {
+					throw (RuntimeException) e.getCause();
+				}
+				throw new IllegalStateException("Unable to improve schedule", e.getCause());
+			}
+		}
+		Best best = searches.get(0).best;
+		for (Search search : searches) {
+			if (search.best.weight < best.weight) {
+				best = search.best;
+			}
+		}
+		if (best.weight >= weight) {
+			return schedule;
+		}
+		return build(best.order, best.pool);
+	}
+
+	/**
+	 * Build a schedule from pool days of days and relationships
+	 *
+	 * @param days Pool day of each day
+	 * @param pool Pool day of each relationship
+	 * @return Schedule
+	 */
+	private Schedule build(int[] days, int[] pool) {
+		int[] count = new int[pools];
+		for (int e = 0; e < pool.length; e++) {
+			if (pool[e] >= 0) {
+				count[pool[e]]++;
+			}
+		}
+		Schedule s = new Schedule(schedule.getNames());
+		for (int p = 0; p < pools; p++) {
+			s.addPoolDay(count[p]);
+		}
+		for (int e = 0; e < pool.length; e++) {
+			if (pool[e] >= 0) {
+				int other = lead[e] == graph.getFirst(e) ? graph.getSecond(e) : graph.getFirst(e);
+				s.addMeetup(pool[e], lead[e], other);
+			}
+		}
+		for (int p : days) {
+			s.addDay(p);
+		}
+		return s;
+	}
+
+	/**
+	 * Get the number of searches to run on an executor, one per thread
+	 *
+	 * @param executor Executor to search on
+	 * @return Number of searches
+	 */
+	private static int threads(ExecutorService executor) {
+		if (executor instanceof ForkJoinPool) {
+			return ((ForkJoinPool) executor).getParallelism();
+		}
+		return Runtime.getRuntime().availableProcessors();
+	}
+
+	/**
+	 * A schedule found by a search
+	 */
+	private static class Best {
+		private final int weight;
+		private final int[] order;
+		private final int[] pool;
+
+		/**
+		 * Keep a schedule
+		 *
+		 * @param weight Maximum strain of the schedule
+		 * @param order Pool day of each day
+		 * @param pool Pool day of each relationship
+		 */
+		private Best(int weight, int[] order, int[] pool) {
+			this.weight = weight;
+			this.order = order;
+			this.pool = pool;
+		}
+	}
+
+	/**
+	 * One local search, with its own copy of the schedule
+	 */
+	private class Search {
+		private int seed;
+		private Random random;
+		private int[] days;
+		private int[] pool;
+		// Relationships of each pool day, and where each is in its list
+		private int[][] members;
+		private int[] memberCount;
+		private int[] slot;
+		// Days using each pool day, in increasing order
+		private int[][] positions;
+		private int[] positionCount;
+		// Heaviest relationship of each pool day, -1 if it has none
+		private int[] heaviest;
+		private int[] gap;
+		// Tree over pool days, each node holding the one with most strain
+		private int[] tree;
+		// Pool days an individual meets in, marked with the current stamp
+		private int[] busy;
+		private int stamp;
+		// Last move, so it can be undone
+		private int kind;
+		private int x;
+		private int y;
+		// Best schedule so far, replaced whole so other threads can read it
+		private volatile Best best;
+
+		/**
+		 * Create a search
+		 *
+		 * @param seed Seed of the search's moves, the search from the
+		 * 		original schedule being 0
+		 */
+		private Search(int seed) {
+			this.seed = seed;
+			random = new Random(seed);
+			best = new Best(weight, order, edgePool);
+		}
+
+		/**
+		 * Search until the budget runs out, the bound is reached or
+		 * another search reaches it
+		 *
+		 * @param deadline Time to stop, from System.nanoTime
+		 * @param iterations Iterations to make, 0 for no limit
+		 * @param bound Weight no schedule can beat
+		 * @param done Set once any search should stop
+		 */
+		private void run(long deadline, long iterations, int bound, AtomicBoolean done) {
+			load(order, edgePool);
+			if (seed > 0) {
+				shake();
+			}
+			int current = maximum();
+			long stall = 0;
+			// Starting again costs a pass over the schedule, so it is
+			// left for at least as many moves
+			long limit = 16L * (pools + length) + edgePool.length;
+			for (long i = 0; iterations == 0 || i < iterations; i++) {
+				if (i % CHECK == 0 && (done.get() || System.nanoTime() >= deadline)) {
+					return;
+				}
+				int next = move();
+				if (next < current || (next == current && random.nextBoolean())) {
+					current = next;
+				} else {
+					undo();
+				}
+				if (current < best.weight) {
+					best = new Best(current, days.clone(), pool.clone());
+					stall = 0;
+					if (current <= bound) {
+						done.set(true);
+						return;
+					}
+				} else if (++stall > limit) {
+					load(best.order, best.pool);
+					shake();
+					current = maximum();
+					stall = 0;
+				}
+			}
+		}
+
+		/**
+		 * Set up the search on a schedule
+		 *
+		 * @param days Pool day of each day
+		 * @param pool Pool day of each relationship
+		 */
+		private void load(int[] days, int[] pool) {
+			this.days = days.clone();
+			this.pool = pool.clone();
+			memberCount = new int[pools];
+			positionCount = new int[pools];
+			heaviest = new int[pools];
+			Arrays.fill(heaviest, -1);
+			gap = new int[pools];
+			slot = new int[pool.length];
+			for (int e = 0; e < pool.length; e++) {
+				if (pool[e] >= 0) {
+					memberCount[pool[e]]++;
+				}
+			}
+			for (int d = 0; d < days.length; d++) {
+				positionCount[days[d]]++;
+			}
+			members = new int[pools][];
+			positions = new int[pools][];
+			for (int p = 0; p < pools; p++) {
+				members[p] = new int[Math.max(4, memberCount[p])];
+				positions[p] = new int[positionCount[p]];
+				memberCount[p] = 0;
+				positionCount[p] = 0;
+			}
+			for (int e = 0; e < pool.length; e++) {
+				int p = pool[e];
+				if (p >= 0) {
+					slot[e] = memberCount[p];
+					members[p][memberCount[p]++] = e;
+					if (graph.getWeight(e) > heaviestWeight(p)) {
+						heaviest[p] = e;
+					}
+				}
+			}
+			for (int d = 0; d < days.length; d++) {
+				positions[days[d]][positionCount[days[d]]++] = d;
+			}
+			busy = new int[pools];
+			tree = new int[2 * pools];
+			for (int p = 0; p < pools; p++) {
+				gap[p] = findGap(p);
+				tree[pools + p] = p;
+			}
+			for (int n = pools - 1; n > 0; n--) {
+				tree[n] = larger(tree[2 * n], tree[2 * n + 1]);
+			}
+		}
+
+		/**
+		 * Swap a few random days, to start somewhere new
+		 */
+		private void shake() {
+			int swaps = 1 + random.nextInt(Math.max(1, length / 8));
+			for (int i = 0; i < swaps; i++) {
+				swapDays(random.nextInt(length), random.nextInt(length));
+			}
+		}
+
+		/**
+		 * Make one move on the pool day with the most strain
+		 *
+		 * @return Maximum strain after the move
+		 */
+		private int move() {
+			int p = tree[1];
+			int choice = random.nextInt(4);
+			if (choice < 2 && positionCount[p] > 0) {
+				// Move one of the pool day's days into its longest gap, or
+				// use it there in place of another pool day
+				int[] at = positions[p];
+				int count = positionCount[p];
+				int k = 0;
+				int longest = length - at[count - 1] + at[0];
+				for (int i = 1; i < count; i++) {
+					if (at[i] - at[i - 1] > longest) {
+						longest = at[i] - at[i - 1];
+						k = i;
+					}
+				}
+				int start = k == 0 ? at[count - 1] : at[k - 1];
+				int spread = Math.max(1, longest / 2);
+				int target = (start + longest / 2 + random.nextInt(spread) - spread / 2) % length;
+				// A pool day with relationships must keep at least one day,
+				// or they would never meet
+				int q = days[target];
+				if (choice == 0 || (positionCount[q] == 1 && memberCount[q] > 0)) {
+					swapDays(at[random.nextInt(count)], target);
+				} else {
+					replaceDay(target, p);
+				}
+			} else if (choice == 2 && pools > 1) {
+				swapClasses(p, other(p));
+			} else if (memberCount[p] > 0) {
+				// Move the heaviest relationship to a pool day where both
+				// individuals are free
+				int e = heaviest[p];
+				int target = freePool(e);
+				if (target < 0) {
+					swapDays(random.nextInt(length), random.nextInt(length));
+				} else {
+					moveEdge(e, target);
+				}
+			} else {
+				swapDays(random.nextInt(length), random.nextInt(length));
+			}
+			return maximum();
+		}
+
+		/**
+		 * Undo the last move
+		 */
+		private void undo() {
+			if (kind == DAYS) {
+				swapDays(x, y);
+			} else if (kind == REPLACE) {
+				replaceDay(x, y);
+			} else if (kind == CLASSES) {
+				swapClasses(x, y);
+			} else {
+				moveEdge(x, y);
+			}
+		}
+
+		/**
+		 * Pick a random pool day other than one
+		 *
+		 * @param p Pool day to leave out
+		 * @return Another pool day
+		 */
+		private int other(int p) {
+			int q = random.nextInt(pools - 1);
+			return q >= p ? q + 1 : q;
+		}
+
+		/**
+		 * Swap the pool days of two days
+		 *
+		 * @param i First day
+		 * @param j Second day
+		 */
+		private void swapDays(int i, int j) {
+			kind = DAYS;
+			x = i;
+			y = j;
+			int p = days[i];
+			int q = days[j];
+			if (p == q) {
+				return;
+			}
+			days[i] = q;
+			days[j] = p;
+			shift(p, i, j);
+			shift(q, j, i);
+			gap[p] = findGap(p);
+			gap[q] = findGap(q);
+			update(p);
+			update(q);
+		}
+
+		/**
+		 * Use a pool day on a day in place of the pool day there
+		 *
+		 * @param i Day
+		 * @param p Pool day to use
+		 */
+		private void replaceDay(int i, int p) {
+			int q = days[i];
+			kind = REPLACE;
+			x = i;
+			y = q;
+			if (p == q) {
+				return;
+			}
+			days[i] = p;
+			int[] at = positions[q];
+			int k = Arrays.binarySearch(at, 0, positionCount[q], i);
+			System.arraycopy(at, k + 1, at, k, --positionCount[q] - k);
+			if (positionCount[p] == positions[p].length) {
+				positions[p] = Arrays.copyOf(positions[p], Math.max(4, positionCount[p] * 2));
+			}
+			at = positions[p];
+			k = -Arrays.binarySearch(at, 0, positionCount[p], i) - 1;
+			System.arraycopy(at, k, at, k + 1, positionCount[p]++ - k);
+			at[k] = i;
+			gap[p] = findGap(p);
+			gap[q] = findGap(q);
+			update(p);
+			update(q);
+		}
+
+		/**
+		 * Change a day of a pool day, keeping its days in order
+		 *
+		 * @param p Pool day
+		 * @param from Day it was on
+		 * @param to Day it is on now
+		 */
+		private void shift(int p, int from, int to) {
+			int[] at = positions[p];
+			int i = Arrays.binarySearch(at, 0, positionCount[p], from);
+			at[i] = to;
+			while (i > 0 && at[i - 1] > at[i]) {
+				at[i] = at[i - 1];
+				at[--i] = to;
+			}
+			while (i < positionCount[p] - 1 && at[i + 1] < at[i]) {
+				at[i] = at[i + 1];
+				at[++i] = to;
+			}
+		}
+
+		/**
+		 * Swap every day of two pool days
+		 *
+		 * @param p First pool day
+		 * @param q Second pool day
+		 */
+		private void swapClasses(int p, int q) {
+			kind = CLASSES;
+			x = p;
+			y = q;
+			int[] at = positions[p];
+			positions[p] = positions[q];
+			positions[q] = at;
+			int count = positionCount[p];
+			positionCount[p] = positionCount[q];
+			positionCount[q] = count;
+			int g = gap[p];
+			gap[p] = gap[q];
+			gap[q] = g;
+			for (int i = 0; i < positionCount[p]; i++) {
+				days[positions[p][i]] = p;
+			}
+			for (int i = 0; i < positionCount[q]; i++) {
+				days[positions[q][i]] = q;
+			}
+			update(p);
+			update(q);
+		}
+
+		/**
+		 * Move a relationship to another pool day
+		 *
+		 * @param e Edge
+		 * @param q Pool day to move it to
+		 */
+		private void moveEdge(int e, int q) {
+			int p = pool[e];
+			kind = EDGE;
+			x = e;
+			y = p;
+			int last = members[p][--memberCount[p]];
+			members[p][slot[e]] = last;
+			slot[last] = slot[e];
+			if (memberCount[q] == members[q].length) {
+				members[q] = Arrays.copyOf(members[q], memberCount[q] * 2);
+			}
+			slot[e] = memberCount[q];
+			members[q][memberCount[q]++] = e;
+			pool[e] = q;
+			if (graph.getWeight(e) > heaviestWeight(q)) {
+				heaviest[q] = e;
+			}
+			if (heaviest[p] == e) {
+				heaviest[p] = -1;
+				for (int i = 0; i < memberCount[p]; i++) {
+					if (graph.getWeight(members[p][i]) > heaviestWeight(p)) {
+						heaviest[p] = members[p][i];
+					}
+				}
+			}
+			update(p);
+			update(q);
+		}
+
+		/**
+		 * Find the pool day where a relationship would have the least
+		 * strain, out of those where neither individual meets anyone,
+		 * starting the scan at a random pool day to break ties
+		 *
+		 * @param e Edge
+		 * @return Pool day, -1 if there is none
+		 */
+		private int freePool(int e) {
+			stamp++;
+			busy[pool[e]] = stamp;
+			for (int v : new int[] {graph.getFirst(e), graph.getSecond(e)}) {
+				for (int s = graph.start(v); s < graph.end(v); s++) {
+					int q = pool[graph.edgeAt(s)];
+					if (q >= 0) {
+						busy[q] = stamp;
+					}
+				}
+			}
+			int w = graph.getWeight(e);
+			int target = -1;
+			long least = Long.MAX_VALUE;
+			int first = random.nextInt(pools);
+			for (int i = 0; i < pools; i++) {
+				int q = (first + i) % pools;
+				long strain = (long) Math.max(w, heaviestWeight(q)) * gap[q];
+				if (busy[q] != stamp && positionCount[q] > 0 && strain < least) {
+					least = strain;
+					target = q;
+				}
+			}
+			return target;
+		}
+
+		/**
+		 * Find the longest cyclic gap between the days of a pool day
+		 *
+		 * @param p Pool day
+		 * @return Longest gap, two runs and a day if it is never used
+		 */
+		private int findGap(int p) {
+			int count = positionCount[p];
+			if (count == 0) {
+				return 2 * length + 1;
+			}
+			int[] at = positions[p];
+			int longest = length - at[count - 1] + at[0];
+			for (int i = 1; i < count; i++) {
+				longest = Math.max(longest, at[i] - at[i - 1]);
+			}
+			return longest;
+		}
+
+		/**
+		 * Get the strain of a pool day, that of its heaviest relationship
+		 *
+		 * @param p Pool day
+		 * @return Strain
+		 */
+		private int strain(int p) {
+			return heaviestWeight(p) * gap[p];
+		}
+
+		/**
+		 * Get the weight of the heaviest relationship of a pool day
+		 *
+		 * @param p Pool day
+		 * @return Weight, 0 if the pool day has no relationships
+		 */
+		private int heaviestWeight(int p) {
+			return heaviest[p] < 0 ? 0 : graph.getWeight(heaviest[p]);
+		}
+
+		/**
+		 * Pick the pool day with more strain
+		 *
+		 * @param p First pool day
+		 * @param q Second pool day
+		 * @return Pool day with more strain
+		 */
+		private int larger(int p, int q) {
+			return strain(q) > strain(p) ? q : p;
+		}
+
+		/**
+		 * Update the tree after the strain of a pool day changed
+		 *
+		 * @param p Pool day
+		 */
+		private void update(int p) {
+			for (int n = (pools + p) / 2; n > 0; n /= 2) {
+				tree[n] = larger(tree[2 * n], tree[2 * n + 1]);
+			}
+		}
+
+		/**
+		 * Get the maximum strain of the search's schedule
+		 *
+		 * @return Schedule weight, that of relationships which never
+		 * 		meet with no pool days
+		 */
+		private int maximum() {
+			if (pools == 0) {
+				return unmet;
+			}
+			return Math.max(unmet, strain(tree[1]));
+		}
+	}
+}
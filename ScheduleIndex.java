@@ -0,0 +1,168 @@
+/**
+ * Purpose	Query index over a schedule for partner and next
+ * 		meeting lookups
+ * Status	Finished
+ * Last Update	10/17/26
+ * Submitted	N/A
+ * Comment	All code is my own original work
+ *
+ * Days are numbered from 0 and the schedule repeats forever, so day d
+ * is day d mod length of the schedule. Partners are kept in a
+ * days x individuals table, and the days each relationship meets are
+ * kept sorted in one array indexed by the edges of the graph. Nothing
+ * changes after construction, so one index can be shared by any number
+ * of reader threads.
+ *
+ * @author	Alaina Iris
+ * @version	2026.10.17
+ */
+
+import java.util.Arrays;
+
+public class ScheduleIndex {
+	private final Graph graph;
+	private final int length;
+	// partners[day * size + v], -1 when v does not meet anyone
+	private final int[] partners;
+	// Days of edge e are meetDays[meetStart[e] .. meetStart[e + 1])
+	private final int[] meetStart;
+	private final int[] meetDays;
+
+	/**
+	 * Build an index over a schedule
+	 *
+	 * @param graph Relationships the schedule was made for
+	 * @param schedule Schedule to index
+	 */
+	public ScheduleIndex(Graph graph, Schedule schedule) {
+		this.graph = graph;
+		int size = graph.size();
+		length = schedule.size();
+		if ((long) length * size > Integer.MAX_VALUE - 8) {
+			throw new IllegalArgumentException("Schedule of " + length + " days is too long to index for " + size + " individuals");
+		}
+		// Find the edge of every pooled meetup once
+		int[][] poolEdges = new int[schedule.getPoolSize()][];
+		for (int p = 0; p < poolEdges.length; p++) {
+			poolEdges[p] = new int[schedule.getMeetupCount(p)];
+			for (int i = 0; i < poolEdges[p].length; i++) {
+				int a = schedule.getFirst(p, i);
+				int b = schedule.getSecond(p, i);
+				int e = a >= 0 && a < size && b >= 0 && b < size && a != b ? graph.findEdge(a, b) : -1;
+				if (e < 0) {
+					throw new IllegalArgumentException("Meetup " + a + " - " + b + " is not a relationship");
+				}
+				poolEdges[p][i] = e;
+			}
+		}
+		partners = new int[length * size];
+		Arrays.fill(partners, -1);
+		meetStart = new int[graph.getEdgeCount() + 1];
+		for (int day = 0; day < length; day++) {
+			for (int e : poolEdges[schedule.getDay(day)]) {
+				int a = graph.getFirst(e);
+				int b = graph.getSecond(e);
+				if (partners[day * size + a] >= 0 || partners[day * size + b] >= 0) {
+					throw new IllegalArgumentException("Day " + day + " has " + a + " or " + b + " meeting twice");
+				}
+				partners[day * size + a] = b;
+				partners[day * size + b] = a;
+				meetStart[e + 1]++;
+			}
+		}
+		for (int e = 0; e < graph.getEdgeCount(); e++) {
+			meetStart[e + 1] += meetStart[e];
+		}
+		meetDays = new int[meetStart[graph.getEdgeCount()]];
+		int[] next = Arrays.copyOf(meetStart, graph.getEdgeCount());
+		for (int day = 0; day < length; day++) {
+			for (int e : poolEdges[schedule.getDay(day)]) {
+				meetDays[next[e]++] = day;
+			}
+		}
+	}
+
+	/**
+	 * Get the length of the repeating schedule
+	 *
+	 * @return Number of days before the schedule repeats
+	 */
+	public int length() {
+		return length;
+	}
+
+	/**
+	 * Find who an individual meets on a day
+	 *
+	 * @param v Individual
+	 * @param day Day, from 0
+	 * @return Partner, -1 if they meet no one that day
+	 */
+	public int getPartner(int v, long day) {
+		if (v < 0 || v >= graph.size()) {
+			throw new IllegalArgumentException("Individual " + v + " is out of range");
+		}
+		if (day < 0) {
+			throw new IllegalArgumentException("Day " + day + " is before the schedule starts");
+		}
+		if (length == 0) {
+			return -1;
+		}
+		return partners[(int) Math.floorMod(day, (long) length) * graph.size() + v];
+	}
+
+	/**
+	 * Find the next day two individuals meet after a day
+	 *
+	 * @param a First individual
+	 * @param b Second individual
+	 * @param day Day to search after, -1 to find their first meeting
+	 * @return Next day they meet, -1 if they never meet
+	 */
+	public long nextMeeting(int a, int b, long day) {
+		if (day < -1) {
+			throw new IllegalArgumentException("Day " + day + " is before the schedule starts");
+		}
+		int e = edge(a, b);
+		if (e < 0 || meetStart[e] == meetStart[e + 1]) {
+			return -1;
+		}
+		long cycle = Math.floorDiv(day, (long) length);
+		int offset = (int) Math.floorMod(day, (long) length);
+		int i = Arrays.binarySearch(meetDays, meetStart[e], meetStart[e + 1], offset + 1);
+		if (i < 0) {
+			i = -i - 1;
+		}
+		if (i == meetStart[e + 1]) {
+			return (cycle + 1) * length + meetDays[meetStart[e]];
+		}
+		return cycle * length + meetDays[i];
+	}
+
+	/**
+	 * Get how many times two individuals meet in one run of the
+	 * schedule
+	 *
+	 * @param a First individual
+	 * @param b Second individual
+	 * @return Number of meetings
+	 */
+	public int getMeetingCount(int a, int b) {
+		int e = edge(a, b);
+		return e < 0 ? 0 : meetStart[e + 1] - meetStart[e];
+	}
+
+	/**
+	 * Find the relationship between two individuals
+	 *
+	 * @param a First individual
+	 * @param b Second individual
+	 * @return Edge index, -1 if they have no relationship
+	 */
+	private int edge(int a, int b) {
+		if (a < 0 || a >= graph.size() || b < 0 || b >= graph.size()) {
+			throw new IllegalArgumentException("Relationship " + a + " - " + b + " is out of range");
+		}
+		return a == b ? -1 : graph.findEdge(a, b);
+	}
+}
@@ -0,0 +1,380 @@
+/**
+ * Purpose	Long running HTTP service which schedules networks
+ * Status	Finished
+ * Last Update	10/17/26
+ * Submitted	N/A
+ * Comment	All code is my own original work
+ *
+ * POST a network to /schedule to get its schedule back. The query picks
+ * the input format (input=matrix, edges or snapshot, matrix by default)
+ * and the output format (format=text, csv or jsonl, jsonl by default).
+ * The maximum strain, optimal lower bound and approximation limit are
+ * returned as the X-Schedule-Weight, X-Minimum-Run and
+ * X-Approximation-Limit headers. GET /metrics gives request counts and
+ * latencies in the Prometheus text format.
+ *
+ * Requests are read and parsed on virtual threads when the JVM has
+ * them, while scheduling runs on a bounded pool of platform threads.
+ * Past the concurrency limit requests are turned away with 503 instead
+ * of queueing, so a load balancer can try another instance. Request
+ * bodies are read into scratch buffers which are kept for the next
+ * request, and the scheduler is warmed up before the port opens.
+ *
+ * @author	Alaina Iris
+ * @version	2026.10.17
+ */
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.BufferedWriter;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.LongAdder;
+
+public class ScheduleServer {
+	// Largest request body accepted
+	public static final int MAX_BODY = 1 << 30;
+	// Scratch buffers larger than this are not kept between requests
+	private static final int MAX_SCRATCH = 1 << 24;
+	// Number of recent requests the latency percentiles cover
+	private static final int WINDOW = 1 << 12;
+	private HttpServer server;
+	private ExecutorService io;
+	private ExecutorService cpu;
+	private ScheduleCache cache;
+	private int maxConcurrent;
+	private Semaphore permits;
+	private ConcurrentLinkedQueue<byte[]> scratch = new ConcurrentLinkedQueue<byte[]>();
+	private LongAdder requests = new LongAdder();
+	private LongAdder failures = new LongAdder();
+	private LongAdder rejected = new LongAdder();
+	// Latencies of the last WINDOW requests, in nanoseconds
+	private long[] latency = new long[WINDOW];
+	private long recorded;
+
+	/**
+	 * Create a server, not yet listening
+	 *
+	 * @param port Port to listen on, 0 for any free port
+	 * @param cpu Platform pool to schedule on
+	 * @param cache Cache to reuse schedules from, null for none
+	 * @param maxConcurrent Most requests scheduled at once
+	 * @throws IOException If the port cannot be bound
+	 */
+	public ScheduleServer(int port, ExecutorService cpu, ScheduleCache cache, int maxConcurrent) throws IOException {
+		if (maxConcurrent < 1) {
+			throw new IllegalArgumentException("Need at least 1 concurrent request, got " + maxConcurrent);
+		}
+		this.cpu = cpu;
+		this.cache = cache;
+		this.maxConcurrent = maxConcurrent;
+		permits = new Semaphore(maxConcurrent);
+		io = BatchRunner.ioExecutor();
+		server = HttpServer.create(new InetSocketAddress(port), 0);
+		server.setExecutor(io);
+		server.createContext("/schedule", this::schedule);
+		server.createContext("/metrics", this::metrics);
+	}
+
+	/**
+	 * Warm up the scheduler and start accepting requests
+	 */
+	public void start() {
+		warmUp();
+		server.start();
+	}
+
+	/**
+	 * Stop accepting requests and wait for the ones in progress
+	 *
+	 * @param seconds Most seconds to wait
+	 */
+	public void stop(int seconds) {
+		server.stop(seconds);
+		io.shutdown();
+	}
+
+	/**
+	 * Get the port the server listens on
+	 *
+	 * @return Port
+	 */
+	public int getPort() {
+		return server.getAddress().getPort();
+	}
+
+	/**
+	 * Schedule random networks until the scheduler has been compiled,
+	 * so the first requests do not pay for it
+	 */
+	private void warmUp() {
+		for (int i = 0; i < 200; i++) {
+			int[][] matrix = Driver.generateMatrix(10 + i % 50, 1000);
+			Network n = new Network(matrix, null);
+			n.getScheduleWeight(n.optimizedSchedule());
+		}
+	}
+
+	/**
+	 * Handle POST /schedule
+	 *
+	 * @param exchange Request and response
+	 * @throws IOException If the connection fails
+	 */
+	private void schedule(HttpExchange exchange) throws IOException {
+		long begin = System.nanoTime();
+		requests.increment();
+		try {
+			if (!exchange.getRequestURI().getPath().equals("/schedule")) {
+				reply(exchange, 404, "Not found");
+				return;
+			}
+			if (!exchange.getRequestMethod().equals("POST")) {
+				exchange.getResponseHeaders().set("Allow", "POST");
+				reply(exchange, 405, "Use POST");
+				return;
+			}
+			if (!permits.tryAcquire()) {
+				rejected.increment();
+				exchange.getResponseHeaders().set("Retry-After", "1");
+				reply(exchange, 503, "Too many requests in progress");
+				return;
+			}
+			try {
+				respond(exchange);
+			} finally {
+				permits.release();
+			}
+		} catch (IllegalArgumentException e) {
+			reply(exchange, 400, e.getMessage());
+		} catch (RuntimeException e) {
+			reply(exchange, 500, "Unable to schedule: " + e.getMessage());
+		} finally {
+			exchange.close();
+			record(System.nanoTime() - begin);
+		}
+	}
+
+	/**
+	 * Read the network of a request, schedule it and write the schedule
+	 *
+	 * @param exchange Request and response
+	 * @throws IOException If the connection fails
+	 */
+	private void respond(HttpExchange exchange) throws IOException {
+		HashMap<String, String> query = query(exchange.getRequestURI().getRawQuery());
+		String input = query.getOrDefault("input", "matrix");
+		int format = ScheduleWriter.format(query.getOrDefault("format", "jsonl"));
+		if (!input.equals("matrix") && !input.equals("edges") && !input.equals("snapshot")) {
+			throw new IllegalArgumentException("Unknown input format " + input + ", expected matrix, edges or snapshot");
+		}
+		byte[] buffer = scratch.poll();
+		Network n;
+		try {
+			if (buffer == null) {
+				buffer = new byte[1 << 16];
+			}
+			int length = 0;
+			try (InputStream in = exchange.getRequestBody()) {
+				int read;
+				while ((read = in.read(buffer, length, buffer.length - length)) >= 0) {
+					length += read;
+					if (length == buffer.length) {
+						if (length == MAX_BODY) {
+							reply(exchange, 413, "Networks are limited to " + MAX_BODY + " bytes");
+							return;
+						}
+						buffer = Arrays.copyOf(buffer, (int) Math.min(MAX_BODY, 2L * length));
+					}
+				}
+			}
+			n = parse(input, buffer, length);
+		} finally {
+			if (buffer.length <= MAX_SCRATCH) {
+				scratch.offer(buffer);
+			}
+		}
+		Schedule s;
+		// Weight, lower bound and limit, found on the pool with the schedule
+		int[] stats = new int[3];
+		try {
+			s = cpu.submit(() -> {
+				Schedule made = cache == null ? n.optimizedSchedule() : cache.getSchedule(n, null);
+				stats[0] = n.getScheduleWeight(made);
+				stats[1] = n.getMinimumRun();
+				stats[2] = n.getApproximationLimit();
+				return made;
+			}).get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while scheduling", e);
+		} catch (ExecutionException e) {
+			throw new IllegalStateException(e.getCause().getMessage(), e.getCause());
+		}
+		exchange.getResponseHeaders().set("Content-Type",
+				format == ScheduleWriter.JSONL ? "application/x-ndjson" :
+				format == ScheduleWriter.CSV ? "text/csv" : "text/plain");
+		exchange.getResponseHeaders().set("X-Schedule-Weight", Integer.toString(stats[0]));
+		exchange.getResponseHeaders().set("X-Minimum-Run", Integer.toString(stats[1]));
+		exchange.getResponseHeaders().set("X-Approximation-Limit", Integer.toString(stats[2]));
+		exchange.sendResponseHeaders(200, 0);
+		Writer out = new BufferedWriter(new OutputStreamWriter(exchange.getResponseBody(), StandardCharsets.UTF_8), 1 << 16);
+		ScheduleWriter writer = new ScheduleWriter(out, format);
+		try {
+			writer.write(s);
+			writer.flush();
+		} catch (RuntimeException e) {
+			// The headers are already sent, so the response can only be
+			// cut short; the exchange is closed by the caller
+			failures.increment();
+		}
+	}
+
+	/**
+	 * Parse a network from the bytes of a request
+	 *
+	 * @param input matrix, edges or snapshot
+	 * @param body Bytes of the request
+	 * @param length Number of bytes used
+	 * @return Network of the request
+	 * @throws IOException If the body cannot be read
+	 */
+	private static Network parse(String input, byte[] body, int length) throws IOException {
+		switch (input) {
+			case "edges":
+				return new EdgeListReader().read(new InputStreamReader(
+						new ByteArrayInputStream(body, 0, length), StandardCharsets.UTF_8));
+			case "snapshot":
+				return new Snapshot(MappedInput.wrap(body, length)).read();
+			default:
+				return new MatrixReader(MappedInput.wrap(body, length)).read(null);
+		}
+	}
+
+	/**
+	 * Handle GET /metrics
+	 *
+	 * @param exchange Request and response
+	 * @throws IOException If the connection fails
+	 */
+	private void metrics(HttpExchange exchange) throws IOException {
+		try {
+			long[] sorted;
+			synchronized (this) {
+				sorted = Arrays.copyOf(latency, (int) Math.min(recorded, WINDOW));
+			}
+			Arrays.sort(sorted);
+			StringBuilder text = new StringBuilder();
+			text.append("schedule_requests_total ").append(requests.sum()).append('\n');
+			text.append("schedule_failures_total ").append(failures.sum()).append('\n');
+			text.append("schedule_rejected_total ").append(rejected.sum()).append('\n');
+			text.append("schedule_in_flight ").append(maxConcurrent - permits.availablePermits()).append('\n');
+			text.append("schedule_concurrency_limit ").append(maxConcurrent).append('\n');
+			for (int percent : new int[] {50, 90, 99}) {
+				text.append("schedule_latency_seconds{quantile=\"0.").append(percent).append("\"} ")
+						.append(seconds(BatchRunner.percentile(sorted, percent))).append('\n');
+			}
+			text.append("schedule_latency_seconds_max ")
+					.append(seconds(sorted.length == 0 ? 0 : sorted[sorted.length - 1])).append('\n');
+			if (cache != null) {
+				text.append("schedule_cache_hits_total ").append(cache.getHits()).append('\n');
+				text.append("schedule_cache_misses_total ").append(cache.getMisses()).append('\n');
+			}
+			if (Metrics.isEnabled()) {
+				MetricsSnapshot phases = Metrics.snapshot();
+				for (int phase = 0; phase < phases.getPhaseCount(); phase++) {
+					text.append("scheduler_phase_seconds_total{phase=\"").append(phases.getPhaseName(phase)).append("\"} ")
+							.append(seconds(phases.getNanos(phase))).append('\n');
+				}
+				text.append("scheduler_fans_total ").append(phases.getFans()).append('\n');
+				text.append("scheduler_fan_size_average ").append(phases.getAverageFanSize()).append('\n');
+				text.append("scheduler_cd_path_length_average ").append(phases.getAverageCdPathLength()).append('\n');
+				text.append("scheduler_cd_path_length_max ").append(phases.getLongestCdPath()).append('\n');
+				text.append("scheduler_layers_total ").append(phases.getLayers()).append('\n');
+				text.append("scheduler_layer_colors_average ").append(phases.getAverageColors()).append('\n');
+				text.append("scheduler_repeated_days_total ").append(phases.getInsertions()).append('\n');
+			}
+			exchange.getResponseHeaders().set("Content-Type", "text/plain; version=0.0.4");
+			reply(exchange, 200, text.toString());
+		} finally {
+			exchange.close();
+		}
+	}
+
+	/**
+	 * Count a finished request and keep its latency
+	 *
+	 * @param nanos Time the request took
+	 */
+	private synchronized void record(long nanos) {
+		latency[(int) (recorded++ % WINDOW)] = nanos;
+	}
+
+	/**
+	 * Send a whole response, counting errors other than turned away
+	 * requests as failures
+	 *
+	 * @param exchange Request and response
+	 * @param status HTTP status
+	 * @param body Response text
+	 * @throws IOException If the connection fails
+	 */
+	private void reply(HttpExchange exchange, int status, String body) throws IOException {
+		if (status >= 400 && status != 503) {
+			failures.increment();
+		}
+		byte[] bytes = (body + "\n").getBytes(StandardCharsets.UTF_8);
+		if (!exchange.getResponseHeaders().containsKey("Content-Type")) {
+			exchange.getResponseHeaders().set("Content-Type", "text/plain; charset=utf-8");
+		}
+		exchange.sendResponseHeaders(status, bytes.length);
+		try (OutputStream out = exchange.getResponseBody()) {
+			out.write(bytes);
+		}
+	}
+
+	/**
+	 * Split a query string into its parameters
+	 *
+	 * @param raw Raw query, may be null
+	 * @return Value of each parameter
+	 */
+	private static HashMap<String, String> query(String raw) {
+		HashMap<String, String> params = new HashMap<String, String>();
+		if (raw == null) {
+			return params;
+		}
+		for (String pair : raw.split("&")) {
+			int split = pair.indexOf('=');
+			if (split > 0) {
+				params.put(URLDecoder.decode(pair.substring(0, split), StandardCharsets.UTF_8),
+						URLDecoder.decode(pair.substring(split + 1), StandardCharsets.UTF_8));
+			}
+		}
+		return params;
+	}
+
+	/**
+	 * Format nanoseconds as seconds
+	 *
+	 * @param nanos Nanoseconds
+	 * @return Seconds text
+	 */
+	private static String seconds(long nanos) {
+		return String.format("%.6f", nanos / 1e9);
+	}
+}
@@ -0,0 +1,251 @@
+/**
+ * Purpose	Streaming writer for schedules and relationship matrices
+ * Status	Finished
+ * Last Update	10/17/26
+ * Submitted	N/A
+ * Comment	All code is my own original work
+ *
+ * Everything is written straight to the output in one pass, so nothing
+ * is built up in memory first. Schedules can be written as the usual
+ * text, as CSV (day,personA,personB) or as JSON Lines with one meetup
+ * per line. Days are numbered from 1 in every format.
+ *
+ * @author	Alaina Iris
+ * @version	2026.10.17
+ */
+
+import java.io.BufferedWriter;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+
+public class ScheduleWriter {
+	public static final int TEXT = 0;
+	public static final int CSV = 1;
+	public static final int JSONL = 2;
+	private Appendable out;
+	private int format;
+
+	/**
+	 * Create a writer
+	 *
+	 * @param out Where to write
+	 * @param format TEXT, CSV or JSONL
+	 */
+	public ScheduleWriter(Appendable out, int format) {
+		if (format < TEXT || format > JSONL) {
+			throw new IllegalArgumentException("Unknown output format " + format);
+		}
+		this.out = out;
+		this.format = format;
+	}
+
+	/**
+	 * Create a buffered writer over a channel. Call flush when done.
+	 *
+	 * @param channel Channel to write to
+	 * @param format TEXT, CSV or JSONL
+	 * @return Writer for the channel
+	 */
+	public static ScheduleWriter open(WritableByteChannel channel, int format) {
+		return new ScheduleWriter(new BufferedWriter(Channels.newWriter(channel, StandardCharsets.UTF_8), 1 << 16), format);
+	}
+
+	/**
+	 * Find a format from its name
+	 *
+	 * @param name text, csv or jsonl
+	 * @return Format
+	 */
+	public static int format(String name) {
+		switch (name.toLowerCase()) {
+			case "text":
+				return TEXT;
+			case "csv":
+				return CSV;
+			case "jsonl":
+				return JSONL;
+			default:
+				throw new IllegalArgumentException("Unknown output format " + name + ", expected text, csv or jsonl");
+		}
+	}
+
+	/**
+	 * Write a schedule
+	 *
+	 * @param s Schedule to write
+	 * @throws IOException If the output cannot be written
+	 */
+	public void write(Schedule s) throws IOException {
+		String[] names = s.getNames();
+		if (format == CSV) {
+			out.append("day,personA,personB\n");
+		}
+		for (int day = 0; day < s.size(); day++) {
+			int p = s.getDay(day);
+			if (format == TEXT) {
+				out.append("\nDAY #").append(Integer.toString(day + 1)).append(':');
+			}
+			for (int i = 0; i < s.getMeetupCount(p); i++) {
+				int a = s.getFirst(p, i);
+				int b = s.getSecond(p, i);
+				if (format == TEXT) {
+					out.append("\n\t");
+					person(names, a);
+					out.append(" and ");
+					person(names, b);
+					out.append(" meet");
+				} else if (format == CSV) {
+					out.append(Integer.toString(day + 1)).append(',');
+					person(names, a);
+					out.append(',');
+					person(names, b);
+					out.append('\n');
+				} else {
+					out.append("{\"day\":").append(Integer.toString(day + 1)).append(",\"personA\":");
+					person(names, a);
+					out.append(",\"personB\":");
+					person(names, b);
+					out.append("}\n");
+				}
+			}
+		}
+	}
+
+	/**
+	 * Write a value for every pair of individuals, one row per line
+	 *
+	 * @param graph Relationships to write
+	 * @param values Value of each edge, null to write the weights
+	 * @throws IOException If the output cannot be written
+	 */
+	public void writeMatrix(Graph graph, int[] values) throws IOException {
+		int len = graph.size();
+		for (int i = 0; i < len; i++) {
+			int slot = graph.start(i);
+			for (int j = 0; j < len; j++) {
+				int val = 0;
+				if (slot < graph.end(i) && graph.neighbor(slot) == j) {
+					val = values == null ? graph.weightAt(slot) : values[graph.edgeAt(slot)];
+					slot++;
+				}
+				out.append(Integer.toString(val)).append("  ");
+			}
+			out.append('\n');
+		}
+	}
+
+	/**
+	 * Flush the output, if it can be flushed
+	 *
+	 * @throws IOException If the output cannot be written
+	 */
+	public void flush() throws IOException {
+		if (out instanceof Flushable) {
+			((Flushable) out).flush();
+		}
+	}
+
+	/**
+	 * Get the text format of a schedule
+	 *
+	 * @param s Schedule to write
+	 * @return Text of the schedule
+	 */
+	public static String text(Schedule s) {
+		StringBuilder str = new StringBuilder();
+		try {
+			new ScheduleWriter(str, TEXT).write(s);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		return str.toString();
+	}
+
+	/**
+	 * Get the text of a matrix
+	 *
+	 * @param graph Relationships to write
+	 * @param values Value of each edge, null to write the weights
+	 * @return Text of the matrix
+	 */
+	public static String matrix(Graph graph, int[] values) {
+		StringBuilder str = new StringBuilder();
+		try {
+			new ScheduleWriter(str, TEXT).writeMatrix(graph, values);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		return str.toString();
+	}
+
+	/**
+	 * Write an individual as their name, or number without names
+	 *
+	 * @param names Names of individuals, may be null
+	 * @param v Individual
+	 * @throws IOException If the output cannot be written
+	 */
+	private void person(String[] names, int v) throws IOException {
+		if (names == null) {
+			out.append(Integer.toString(v));
+		} else if (format == CSV) {
+			csv(names[v]);
+		} else if (format == JSONL) {
+			json(names[v]);
+		} else {
+			out.append(names[v]);
+		}
+	}
+
+	/**
+	 * Write a CSV field, quoting it if needed
+	 *
+	 * @param value Field to write
+	 * @throws IOException If the output cannot be written
+	 */
+	private void csv(String value) throws IOException {
+		boolean quote = false;
+		for (int i = 0; i < value.length() && !quote; i++) {
+			char c = value.charAt(i);
+			quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+		}
+		if (!quote) {
+			out.append(value);
+			return;
+		}
+		out.append('"');
+		for (int i = 0; i < value.length(); i++) {
+			char c = value.charAt(i);
+			if (c == '"') {
+				out.append('"');
+			}
+			out.append(c);
+		}
+		out.append('"');
+	}
+
+	/**
+	 * Write a JSON string
+	 *
+	 * @param value String to write
+	 * @throws IOException If the output cannot be written
+	 */
+	private void json(String value) throws IOException {
+		out.append('"');
+		for (int i = 0; i < value.length(); i++) {
+			char c = value.charAt(i);
+			if (c == '"' || c == '\\') {
+				out.append('\\').append(c);
+			} else if (c < 0x20) {
+				out.append(String.format("\\u%04x", (int) c));
+			} else {
+				out.append(c);
+			}
+		}
+		out.append('"');
+	}
+}
@@ -0,0 +1,266 @@
+/**
+ * Purpose	Compact binary snapshot of a network for fast reloading
+ * Status	Finished
+ * Last Update	10/17/26
+ * Submitted	N/A
+ * Comment	All code is my own original work
+ *
+ * Layout, with every count and number after the header as an unsigned
+ * LEB128 varint:
+ *
+ * 	"NSNP", version, flags, size, relationships	(5 ints)
+ * 	name table (if flags has NAMES)		(length, UTF-8 bytes)
+ * 	for each individual u			(count of neighbors v > u,
+ * 						 then per neighbor v - previous
+ * 						 and weight)
+ *
+ * Neighbors are stored as gaps from the previous neighbor (starting at
+ * u), so most of them fit in a single byte. Snapshots are read through
+ * a memory map, and come out already sorted so the graph is built
+ * without sorting.
+ *
+ * @author	Alaina Iris
+ * @version	2026.10.17
+ */
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+public class Snapshot {
+	private static final int MAGIC = 0x4e534e50; // NSNP
+	private static final int VERSION = 1;
+	private static final int NAMES = 1;
+	private MappedInput input;
+	private long pos;
+
+	/**
+	 * Create a snapshot reader
+	 *
+	 * @param input Input holding the snapshot
+	 */
+	public Snapshot(MappedInput input) {
+		this.input = input;
+	}
+
+	/**
+	 * Write a network to a snapshot file
+	 *
+	 * @param n Network to write
+	 * @param file File to write
+	 * @throws IOException If the file cannot be written
+	 */
+	public static void write(Network n, Path file) throws IOException {
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE,
+				StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING)) {
+			write(n, channel);
+		}
+	}
+
+	/**
+	 * Write a network as a snapshot
+	 *
+	 * @param n Network to write
+	 * @param channel Channel to write to
+	 * @throws IOException If the channel cannot be written
+	 */
+	public static void write(Network n, WritableByteChannel channel) throws IOException {
+		Graph g = n.getGraph();
+		String[] names = n.getNames();
+		if (names != null && names.length != g.size()) {
+			throw new IllegalArgumentException("Network has " + names.length + " names for " + g.size() + " individuals");
+		}
+		ByteBuffer buffer = ByteBuffer.allocateDirect(1 << 16);
+		buffer.putInt(MAGIC);
+		buffer.putInt(VERSION);
+		buffer.putInt(names != null ? NAMES : 0);
+		buffer.putInt(g.size());
+		buffer.putInt(g.getEdgeCount());
+		if (names != null) {
+			for (String name : names) {
+				byte[] bytes = name.getBytes(StandardCharsets.UTF_8);
+				putVarint(buffer, channel, bytes.length);
+				for (byte b : bytes) {
+					if (!buffer.hasRemaining()) {
+						flush(buffer, channel);
+					}
+					buffer.put(b);
+				}
+			}
+		}
+		for (int u = 0; u < g.size(); u++) {
+			int slot = g.start(u);
+			while (slot < g.end(u) && g.neighbor(slot) < u) {
+				slot++;
+			}
+			putVarint(buffer, channel, g.end(u) - slot);
+			int previous = u;
+			for (; slot < g.end(u); slot++) {
+				putVarint(buffer, channel, g.neighbor(slot) - previous);
+				putVarint(buffer, channel, g.weightAt(slot));
+				previous = g.neighbor(slot);
+			}
+		}
+		flush(buffer, channel);
+	}
+
+	/**
+	 * Read a network from a snapshot file
+	 *
+	 * @param file File to read
+	 * @return Network of the snapshot
+	 * @throws IOException If the file cannot be read
+	 */
+	public static Network read(Path file) throws IOException {
+		return new Snapshot(MappedInput.open(file)).read();
+	}
+
+	/**
+	 * Read the network held by the snapshot
+	 *
+	 * @return Network of the snapshot
+	 */
+	public Network read() {
+		pos = 0;
+		if (input.size() < 20 || readInt() != MAGIC) {
+			throw new IllegalArgumentException("Not a network snapshot");
+		}
+		int version = readInt();
+		if (version != VERSION) {
+			throw new IllegalArgumentException("Unsupported snapshot version " + version);
+		}
+		int flags = readInt();
+		int size = readInt();
+		int edges = readInt();
+		// Every individual takes at least its count byte and every
+		// relationship at least a gap byte and a weight byte, so a header
+		// claiming more than the bytes left is rejected before allocating
+		if (size < 0 || size > input.size() - pos) {
+			throw new IllegalArgumentException("Snapshot header has a bad size " + size);
+		}
+		if (edges < 0 || edges > (input.size() - pos) / 2) {
+			throw new IllegalArgumentException("Snapshot header has a bad relationship count " + edges);
+		}
+		String[] names = null;
+		if ((flags & NAMES) != 0) {
+			names = new String[size];
+			for (int i = 0; i < size; i++) {
+				int length = readVarint();
+				if (length < 0 || length > input.size() - pos) {
+					throw new IllegalArgumentException("Snapshot has a bad name length at byte " + pos);
+				}
+				byte[] bytes = new byte[length];
+				for (int j = 0; j < bytes.length; j++) {
+					bytes[j] = next();
+				}
+				names[i] = new String(bytes, StandardCharsets.UTF_8);
+			}
+		}
+		int[] first = new int[edges];
+		int[] second = new int[edges];
+		int[] weights = new int[edges];
+		int e = 0;
+		for (int u = 0; u < size; u++) {
+			int count = readVarint();
+			int v = u;
+			for (int i = 0; i < count; i++) {
+				if (e == edges) {
+					throw new IllegalArgumentException("Snapshot has more relationships than its header");
+				}
+				v += readVarint();
+				first[e] = u;
+				second[e] = v;
+				weights[e] = readVarint();
+				e++;
+			}
+		}
+		if (e != edges) {
+			throw new IllegalArgumentException("Snapshot has fewer relationships than its header");
+		}
+		return new Network(Graph.fromSortedEdges(size, first, second, weights), names);
+	}
+
+	/**
+	 * Read the next byte
+	 *
+	 * @return Next byte
+	 */
+	private byte next() {
+		if (pos >= input.size()) {
+			throw new IllegalArgumentException("Snapshot ends early");
+		}
+		return input.get(pos++);
+	}
+
+	/**
+	 * Read a big endian int
+	 *
+	 * @return Next int
+	 */
+	private int readInt() {
+		int value = 0;
+		for (int i = 0; i < 4; i++) {
+			value = (value << 8) | (next() & 0xff);
+		}
+		return value;
+	}
+
+	/**
+	 * Read an unsigned varint
+	 *
+	 * @return Next varint
+	 */
+	private int readVarint() {
+		int value = 0;
+		int shift = 0;
+		byte b;
+		do {
+			b = next();
+			// A fifth byte above 7 would overflow or make the number negative
+			if (shift == 28 && (b & 0xff) > 0x07) {
+				throw new IllegalArgumentException("Snapshot has a bad number at byte " + pos);
+			}
+			value |= (b & 0x7f) << shift;
+			shift += 7;
+		} while (b < 0);
+		return value;
+	}
+
+	/**
+	 * Write an unsigned varint
+	 *
+	 * @param buffer Buffer to write into
+	 * @param channel Channel to flush full buffers to
+	 * @param value Value to write
+	 * @throws IOException If the channel cannot be written
+	 */
+	private static void putVarint(ByteBuffer buffer, WritableByteChannel channel, int value) throws IOException {
+		if (buffer.remaining() < 5) {
+			flush(buffer, channel);
+		}
+		while ((value & ~0x7f) != 0) {
+			buffer.put((byte) ((value & 0x7f) | 0x80));
+			value >>>= 7;
+		}
+		buffer.put((byte) value);
+	}
+
+	/**
+	 * Write out everything in the buffer
+	 *
+	 * @param buffer Buffer to empty
+	 * @param channel Channel to write to
+	 * @throws IOException If the channel cannot be written
+	 */
+	private static void flush(ByteBuffer buffer, WritableByteChannel channel) throws IOException {
+		buffer.flip();
+		while (buffer.hasRemaining()) {
+			channel.write(buffer);
+		}
+		buffer.clear();
+	}
+}
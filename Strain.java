@@ -0,0 +1,124 @@
+/**
+ * Purpose	Strain on every relationship of a repeating schedule
+ * Status	Finished
+ * Last Update	10/17/26
+ * Submitted	N/A
+ * Comment	All code is my own original work
+ *
+ * The strain on a relationship is its weight times the longest cyclic
+ * gap between two of its meetups. A relationship which never meets
+ * builds up strain for two full runs of the schedule. This is the same
+ * maximum as simulating two runs day by day, but only needs one pass
+ * over the meetups.
+ *
+ * @author	Alaina Iris
+ * @version	2026.10.17
+ */
+
+import java.util.Arrays;
+
+public class Strain {
+	private Graph graph;
+	private int[] strain;
+	private int maximum;
+
+	/**
+	 * Find the strain of every relationship under a schedule
+	 *
+	 * @param graph Relationships
+	 * @param s Schedule to evaluate
+	 */
+	public Strain(Graph graph, Schedule s) {
+		this.graph = graph;
+		int edges = graph.getEdgeCount();
+		int[] first = new int[edges];
+		int[] last = new int[edges];
+		int[] gap = new int[edges];
+		Arrays.fill(first, -1);
+		// Find the edge of every pooled meetup once, rather than once
+		// for every day the meetup repeats
+		int[][] poolEdges = new int[s.getPoolSize()][];
+		for (int p = 0; p < poolEdges.length; p++) {
+			poolEdges[p] = new int[s.getMeetupCount(p)];
+			for (int i = 0; i < poolEdges[p].length; i++) {
+				poolEdges[p][i] = graph.findEdge(s.getFirst(p, i), s.getSecond(p, i));
+			}
+		}
+		int day;
+		for (day = 0; day < s.size(); day++) {
+			for (int e : poolEdges[s.getDay(day)]) {
+				if (e < 0) {
+					continue;
+				}
+				if (first[e] < 0) {
+					first[e] = day;
+				} else if (day - last[e] > gap[e]) {
+					gap[e] = day - last[e];
+				}
+				last[e] = day;
+			}
+		}
+		strain = new int[edges];
+		for (int e = 0; e < edges; e++) {
+			int wait;
+			if (first[e] < 0) {
+				wait = 2 * day + 1;
+			} else {
+				wait = Math.max(gap[e], day - last[e] + first[e]);
+			}
+			strain[e] = graph.getWeight(e) * wait;
+			if (strain[e] > maximum) {
+				maximum = strain[e];
+			}
+		}
+	}
+
+	/**
+	 * Get the maximum strain on any relationship
+	 *
+	 * @return Schedule weight
+	 */
+	public int getMaximum() {
+		return maximum;
+	}
+
+	/**
+	 * Get the strain on every relationship, by edge index
+	 *
+	 * @return Strain per relationship
+	 */
+	public int[] getStrain() {
+		return strain;
+	}
+
+	/**
+	 * Get the relationships which reach the maximum strain
+	 *
+	 * @return Edge indices of the bottlenecks
+	 */
+	public int[] getBottlenecks() {
+		int count = 0;
+		for (int e = 0; e < strain.length; e++) {
+			if (strain[e] == maximum) {
+				count++;
+			}
+		}
+		int[] bottlenecks = new int[count];
+		count = 0;
+		for (int e = 0; e < strain.length; e++) {
+			if (strain[e] == maximum) {
+				bottlenecks[count++] = e;
+			}
+		}
+		return bottlenecks;
+	}
+
+	/**
+	 * Get the graph the strain was found on
+	 *
+	 * @return Relationships
+	 */
+	public Graph getGraph() {
+		return graph;
+	}
+}
@@ -0,0 +1,90 @@
+/**
+ * Purpose	Seeded random networks for benchmarks
+ * Status	Finished
+ * Last Update	10/17/26
+ * Submitted	N/A
+ * Comment	All code is my own original work
+ *
+ * @author	Alaina Iris
+ * @version	2026.10.17
+ */
+package scheduler.bench;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+import scheduler.EdgeBuffer;
+import scheduler.Graph;
+import scheduler.Network;
+
+public final class Networks {
+	public static final long SEED = 20250106L;
+
+	private Networks() {
+	}
+
+	/**
+	 * Make a random network. The same arguments always make the same
+	 * network.
+	 *
+	 * @param nodes Number of individuals
+	 * @param density Chance of any two individuals being related
+	 * @param maxWeight Largest relationship weight
+	 * @param seed Random seed
+	 * @return Random network
+	 */
+	public static Network random(int nodes, double density, int maxWeight, long seed) {
+		Random rand = new Random(seed ^ ((long) nodes << 32) ^ maxWeight ^ Double.doubleToLongBits(density));
+		EdgeBuffer edges = new EdgeBuffer();
+		for (int i = 0; i < nodes - 1; i++) {
+			for (int j = i + 1; j < nodes; j++) {
+				if (rand.nextDouble() < density) {
+					edges.add(i, j, 1 + rand.nextInt(maxWeight));
+				}
+			}
+		}
+		return new Network(edges.toGraph(nodes), null);
+	}
+
+	/**
+	 * Get the heaviest weight band, the first layer that
+	 * optimizedSchedule would build
+	 *
+	 * @param n Network to cut
+	 * @return Heaviest band
+	 */
+	public static Graph heaviestBand(Network n) {
+		int max = n.getMax();
+		return n.getLayers() > 0 ? n.getGraph().band(max / 2, max) : n.getGraph().band(0, max);
+	}
+
+	/**
+	 * Write a network as a dense CSV file
+	 *
+	 * @param n Network to write
+	 * @param file File to write
+	 * @throws IOException If the file cannot be written
+	 */
+	public static void writeMatrix(Network n, Path file) throws IOException {
+		Graph g = n.getGraph();
+		try (BufferedWriter out = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+			for (int i = 0; i < g.size(); i++) {
+				out.write(i == 0 ? "P0" : ",P" + i);
+			}
+			out.newLine();
+			for (int i = 0; i < g.size(); i++) {
+				for (int j = 0; j < g.size(); j++) {
+					if (j > 0) {
+						out.write(',');
+					}
+					out.write(Integer.toString(g.getWeight(i, j)));
+				}
+				out.newLine();
+			}
+		}
+	}
+}
@@ -0,0 +1,92 @@
+/**
+ * Purpose	Benchmarks for reading networks from disk
+ * Status	Finished
+ * Last Update	10/17/26
+ * Submitted	N/A
+ * Comment	All code is my own original work
+ *
+ * @author	Alaina Iris
+ * @version	2026.10.17
+ */
+package scheduler.bench;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import scheduler.MatrixReader;
+import scheduler.Network;
+import scheduler.Snapshot;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ParseBenchmark {
+	@Param({"500", "2000"})
+	public int nodes;
+
+	@Param({"0.01", "0.05"})
+	public double density;
+
+	@Param({"1", "4"})
+	public int threads;
+
+	private Path csv;
+	private Path snapshot;
+	private ExecutorService executor;
+
+	@Setup(Level.Trial)
+	public void setup() throws IOException {
+		Network network = Networks.random(nodes, density, 1000, Networks.SEED);
+		csv = Files.createTempFile("bench", ".csv");
+		snapshot = Files.createTempFile("bench", ".snap");
+		Networks.writeMatrix(network, csv);
+		Snapshot.write(network, snapshot);
+		executor = threads > 1 ? new ForkJoinPool(threads) : null;
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() throws IOException {
+		if (executor != null) {
+			executor.shutdown();
+		}
+		Files.deleteIfExists(csv);
+		Files.deleteIfExists(snapshot);
+	}
+
+	/**
+	 * Dense CSV through the memory mapped reader
+	 */
+	@Benchmark
+	public Network csv() throws IOException {
+		return MatrixReader.read(csv, executor);
+	}
+
+	/**
+	 * The same network from a binary snapshot
+	 */
+	@Benchmark
+	public Network snapshot() throws IOException {
+		return Snapshot.read(snapshot);
+	}
+}
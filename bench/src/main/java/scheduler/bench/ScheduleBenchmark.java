@@ -0,0 +1,83 @@
+/**
+ * Purpose	Benchmarks for each phase of the scheduling pipeline
+ * Status	Finished
+ * Last Update	10/17/26
+ * Submitted	N/A
+ * Comment	All code is my own original work
+ *
+ * @author	Alaina Iris
+ * @version	2026.10.17
+ */
+package scheduler.bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import scheduler.Graph;
+import scheduler.Layer;
+import scheduler.Network;
+import scheduler.Schedule;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ScheduleBenchmark {
+	@Param({"100", "500", "2000"})
+	public int nodes;
+
+	@Param({"0.01", "0.05"})
+	public double density;
+
+	@Param({"16", "1000"})
+	public int maxWeight;
+
+	private Network network;
+	private Graph heaviest;
+	private Schedule schedule;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		network = Networks.random(nodes, density, maxWeight, Networks.SEED);
+		heaviest = Networks.heaviestBand(network);
+		schedule = network.optimizedSchedule();
+	}
+
+	/**
+	 * The whole pipeline: cutting layers, coloring, and interleaving
+	 */
+	@Benchmark
+	public Schedule optimizedSchedule() {
+		return network.optimizedSchedule();
+	}
+
+	/**
+	 * Edge coloring plus optimizeSchedule for the heaviest layer
+	 */
+	@Benchmark
+	public Layer layer() {
+		return new Layer(heaviest);
+	}
+
+	/**
+	 * Strain evaluation of a finished schedule
+	 */
+	@Benchmark
+	public int scheduleWeight() {
+		return network.getScheduleWeight(schedule);
+	}
+}